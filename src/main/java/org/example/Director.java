@@ -1,8 +1,33 @@
 package org.example;
 
+import org.example.enums.GenderEnum;
+import org.example.enums.RoleEnum;
+
+import java.math.BigDecimal;
+
 public class Director extends Manager {
     public Director(String name) {
         super(name);
     }
-   
+
+    /**
+     * Constructs a new {@code Director} instance with the specified attributes.
+     *
+     * @see Manager#Manager(String, int, GenderEnum, BigDecimal, int, int)
+     */
+    public Director(
+            String name,
+            int age,
+            GenderEnum gender,
+            BigDecimal salary,
+            int subordinateNumber,
+            int salarySupplementPercent) {
+
+        super(name, age, gender, salary, subordinateNumber, salarySupplementPercent);
+    }
+
+    @Override
+    public RoleEnum getRole() {
+        return RoleEnum.DIRECTOR;
+    }
 }
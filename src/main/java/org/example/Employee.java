@@ -2,9 +2,11 @@ package org.example;
 
 import org.example.enums.ErrorMessagesEnum;
 import org.example.enums.GenderEnum;
+import org.example.enums.RoleEnum;
 import org.example.helpers.ValueChecker;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 
 /**
  * Represents an employee with attributes such as name, age, gender, and salary.
@@ -15,6 +17,7 @@ public class Employee {
     private int age;
     private GenderEnum sex;
     private BigDecimal wage;
+    private EmployeeChangeListener[] listeners = new EmployeeChangeListener[0];
 
     /**
      * Constructs an Employee object with the specified name.
@@ -95,6 +98,7 @@ public class Employee {
         if (value == null)
             throw new IllegalArgumentException(ErrorMessagesEnum.GENDER_NULL.getString());
         this.sex = value;
+        notifyListeners();
         return this;
     }
 
@@ -109,6 +113,7 @@ public class Employee {
     public Employee setSalary(BigDecimal value) {
         ValueChecker.checkSalary(value);
         this.wage = value;
+        notifyListeners();
         return this;
     }
 
@@ -123,13 +128,53 @@ public class Employee {
         if (age < 0)
             throw new IllegalArgumentException(ErrorMessagesEnum.AGE_LESS_ZERO.getString());
         this.age = value;
+        notifyListeners();
         return this;
     }
 
+    /**
+     * Registers a listener notified after every change made through the setters of this employee.
+     *
+     * @param listener the listener to register; must not be null.
+     * @throws IllegalArgumentException if the listener is null.
+     */
+    public void addChangeListener(EmployeeChangeListener listener) {
+        if (listener == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.LISTENER_NULL.getString());
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Unregisters a listener previously registered with
+     * {@link #addChangeListener(EmployeeChangeListener)}.
+     *
+     * @param listener the listener to unregister.
+     */
+    public void removeChangeListener(EmployeeChangeListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] != listener) continue;
+            var result = new EmployeeChangeListener[listeners.length - 1];
+            System.arraycopy(listeners, 0, result, 0, i);
+            System.arraycopy(listeners, i + 1, result, i, listeners.length - i - 1);
+            listeners = result;
+            return;
+        }
+    }
+
+    private void notifyListeners() {
+        for (var listener : listeners)
+            listener.onEmployeeChanged(this);
+    }
+
     public int getAge() {
         return age;
     }
 
+    public RoleEnum getRole() {
+        return RoleEnum.EMPLOYEE;
+    }
+
     public GenderEnum getGender() {
         return this.sex;
     }
@@ -0,0 +1,17 @@
+package org.example;
+
+/**
+ * A listener notified after an attribute of an {@link Employee} has been changed through one of
+ * its setters. It allows derived structures, such as indexes or caches, to stay consistent with
+ * the employees they are built from.
+ *
+ * @see Employee#addChangeListener(EmployeeChangeListener)
+ */
+public interface EmployeeChangeListener {
+    /**
+     * Called after an attribute of the employee has been changed.
+     *
+     * @param employee the changed employee.
+     */
+    void onEmployeeChanged(Employee employee);
+}
@@ -5,7 +5,10 @@ import org.example.enums.GenderEnum;
 import org.example.enums.OutputStringPatternEnum;
 import org.example.enums.StringEnum;
 import org.example.helpers.ValueChecker;
+import org.example.report.ReportLayout;
+import org.example.report.SalaryReportWriter;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,17 +25,20 @@ public class Main {
             Month[] concreteMonths = getConcreteMonths(monthUtils);
             Employee[] employeesCollection = getEmployees().toArray(new Employee[0]);
 
-            // Show employees' salary.
-            for (Employee employee : employeesCollection)
-                showSalaryData(
-                        employee,
+            try (var report = SalaryReportWriter.toStandardOutput(ReportLayout.TEXT)) {
+                // Show employees' salary.
+                for (Employee employee : employeesCollection)
+                    showSalaryData(
+                            report,
+                            employee,
+                            concreteMonths);
+
+                // Show total salary.
+                var totalSalary = SalaryUtils.getTotalSalary(
+                        employeesCollection,
                         concreteMonths);
-
-            // Show total salary.
-            var totalSalary = SalaryUtils.getTotalSalary(
-                    employeesCollection,
-                    concreteMonths);
-            showTotalSalaryData(totalSalary);
+                showTotalSalaryData(report, totalSalary);
+            }
 
             // Promote Vasya.
             var newVasya = employeesCollection[1].promoteToManager(1);
@@ -143,44 +149,43 @@ public class Main {
     }
 
     /**
-     * Displays the total salary data in a formatted manner using the output pattern specified
-     * by {@link OutputStringPatternEnum#TOTAL_SALARY}.
+     * Displays the total salary data using the given report writer.
      * <p>
-     * This method prints the total salary to the standard output stream (console) using
-     * a predefined string pattern. The pattern is retrieved from
-     * the {@link OutputStringPatternEnum} enumeration.
+     * The line is rendered into the writer's buffer and reaches the standard output stream
+     * (console) when the writer is flushed or closed.
      *
+     * @param report      The report writer the line is written to.
      * @param totalSalary The total salary to be displayed, provided as a {@link BigDecimal}.
-     * @see OutputStringPatternEnum
+     * @throws IOException If the report cannot be written.
+     * @see SalaryReportWriter#writeTotal(BigDecimal)
      * @see BigDecimal
      */
-    private static void showTotalSalaryData(BigDecimal totalSalary) {
-        System.out.printf(
-                OutputStringPatternEnum.TOTAL_SALARY.getString(),
-                totalSalary);
+    private static void showTotalSalaryData(SalaryReportWriter report, BigDecimal totalSalary)
+            throws IOException {
+        report.writeTotal(totalSalary);
     }
 
     /**
      * Displays the total salary data for a given employee over a specified range of months.
      *
+     * @param report   The report writer the line is written to.
      * @param employee The employee for whom the salary data is to be displayed.
      *                 Must not be null.
      * @param months   An array of months over which the salary is calculated.
      *                 Must not be null or empty.
      * @throws IllegalArgumentException If the employee or months collection is invalid,
      *                                  as determined by the {@link ValueChecker} utility methods.
+     * @throws IOException              If the report cannot be written.
      * @see ValueChecker#checkEmployee(Employee)
      * @see ValueChecker#checkMonthCollection(Month[])
      * @see Employee#getSalary(Month[])
-     * @see OutputStringPatternEnum#EMPLOYEE_SALARY
+     * @see SalaryReportWriter#writeSalary(String, BigDecimal)
      */
-    private static void showSalaryData(Employee employee, Month[] months) {
+    private static void showSalaryData(SalaryReportWriter report, Employee employee, Month[] months)
+            throws IOException {
         ValueChecker.checkEmployee(employee);
         ValueChecker.checkMonthCollection(months);
         var totalSalary = employee.getSalary(months);
-        System.out.printf(
-                OutputStringPatternEnum.EMPLOYEE_SALARY.getString(),
-                employee.getName(),
-                totalSalary);
+        report.writeSalary(employee.getName(), totalSalary);
     }
 }
\ No newline at end of file
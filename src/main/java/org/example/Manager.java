@@ -1,13 +1,12 @@
 package org.example;
 
 import org.example.enums.GenderEnum;
+import org.example.enums.RoleEnum;
 import org.example.helpers.ValueChecker;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
-import static org.example.helpers.Numbers.getAsBigDecimal;
-
 /**
  * Represents a manager in the company, extending the {@code Employee} class.
  * A manager has a specific number of subordinates and a salary supplement percentage.
@@ -88,13 +87,60 @@ public class Manager extends Employee {
         ValueChecker.checkMonthCollection(monthArray);
 
         var normalSalary = super.getSalary(monthArray);
-        //noinspection BigDecimalMethodWithoutRoundingCalled
-        var percent = getAsBigDecimal(this.salarySupplementPercent).divide(getAsBigDecimal(100));
-        var sumOfOneSubordinate = normalSalary.multiply(percent);
-        var totalForSubordinates = sumOfOneSubordinate.multiply(
-                getAsBigDecimal(this.subordinateNumber));
-        var result = normalSalary.add(totalForSubordinates);
-
-        return result.setScale(2, RoundingMode.HALF_UP);
+        return calculateSalary(normalSalary, this.subordinateNumber, this.salarySupplementPercent);
+    }
+
+    /**
+     * Calculates the salary of a manager from the normal salary, as {@link #getSalary(Month[])}
+     * does. This is the single definition of the manager salary formula, shared by the code
+     * working on salaries without {@code Manager} objects.
+     *
+     * @param normalSalary            the salary without the supplement.
+     * @param subordinateNumber       the number of subordinates.
+     * @param salarySupplementPercent the salary supplement percent per subordinate.
+     * @return the salary including the supplement, rounded to two decimal places using rounding
+     * mode {@link RoundingMode#HALF_UP}.
+     * @see #addSupplement(BigDecimal, int, int)
+     */
+    public static BigDecimal calculateSalary(
+            BigDecimal normalSalary,
+            int subordinateNumber,
+            int salarySupplementPercent) {
+
+        return addSupplement(normalSalary, subordinateNumber, salarySupplementPercent)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Adds the supplement for the subordinates to an amount without rounding it: the supplement
+     * is {@code salarySupplementPercent} percent of the amount per subordinate. The result is
+     * exact, as the supplement is a whole percent of the amount.
+     *
+     * @param amount                  the amount without the supplement.
+     * @param subordinateNumber       the number of subordinates.
+     * @param salarySupplementPercent the salary supplement percent per subordinate.
+     * @return the amount including the supplement.
+     */
+    public static BigDecimal addSupplement(
+            BigDecimal amount,
+            int subordinateNumber,
+            int salarySupplementPercent) {
+
+        if (subordinateNumber == 0 || salarySupplementPercent == 0) return amount;
+        var supplement = BigDecimal.valueOf((long) salarySupplementPercent * subordinateNumber);
+        return amount.add(amount.multiply(supplement).movePointLeft(2));
+    }
+
+    public int getSubordinateNumber() {
+        return subordinateNumber;
+    }
+
+    public int getSalarySupplementPercent() {
+        return salarySupplementPercent;
+    }
+
+    @Override
+    public RoleEnum getRole() {
+        return RoleEnum.MANAGER;
     }
 }
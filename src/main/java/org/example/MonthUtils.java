@@ -27,6 +27,7 @@ public class MonthUtils {
             31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31);
     private final List<Integer> monthWorkingDays = Arrays.asList(
             17, 20, 21, 22, 18, 19, 23, 21, 22, 23, 19, 22);
+    private final long[] workDaysPrefix = new long[13];
 
     /**
      * Constructs a new {@code MonthUtils} instance and initializes the month collection.
@@ -61,6 +62,8 @@ public class MonthUtils {
                     monthDays.get(monthIndex),
                     monthWorkingDays.get(monthIndex));
             this.monthCollection[monthIndex] = monthRecord;
+            this.workDaysPrefix[monthIndex + 1] =
+                    this.workDaysPrefix[monthIndex] + monthRecord.getWorkDays();
         }
     }
 
@@ -97,4 +100,47 @@ public class MonthUtils {
                 .filter(m -> m.getName().equalsIgnoreCase(monthName))
                 .findFirst();
     }
+
+    /**
+     * Returns the twelve months of the calendar, from January to December.
+     *
+     * @return a new array holding the months.
+     */
+    public Month[] getMonths() {
+        return monthCollection.clone();
+    }
+
+    /**
+     * Returns the index of a payroll period. Period indexes are consecutive across years, so
+     * that ranges of months can be expressed as ranges of integers.
+     *
+     * @param year        the year of the period.
+     * @param monthNumber the number of the month, where 1 represents January and 12 represents
+     *                    December.
+     * @return the period index, equal to {@code year * 12 + monthNumber - 1}.
+     * @throws IllegalArgumentException if the month number is not within 1-12.
+     */
+    public static int getPeriod(int year, int monthNumber) {
+        if (monthNumber < 1 || monthNumber > 12)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_MONTH_INDEX.getString());
+        return year * 12 + monthNumber - 1;
+    }
+
+    /**
+     * Returns the total number of working days of the periods within the given inclusive range.
+     * The result is computed in constant time from the prefix sums of the working days.
+     *
+     * @param fromPeriod the first period of the range, see {@link #getPeriod(int, int)}.
+     * @param toPeriod   the last period of the range.
+     * @return the number of working days, or 0 if the range is empty.
+     */
+    public long getWorkDays(int fromPeriod, int toPeriod) {
+        if (toPeriod < fromPeriod) return 0;
+        return getWorkDaysBefore((long) toPeriod + 1) - getWorkDaysBefore(fromPeriod);
+    }
+
+    private long getWorkDaysBefore(long period) {
+        return Math.floorDiv(period, 12) * workDaysPrefix[12]
+                + workDaysPrefix[Math.floorMod(period, 12)];
+    }
 }
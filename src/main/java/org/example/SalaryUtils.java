@@ -1,5 +1,6 @@
 package org.example;
 
+import org.example.analytics.SalaryQuantiles;
 import org.example.helpers.ValueChecker;
 
 import java.math.BigDecimal;
@@ -23,6 +24,28 @@ public class SalaryUtils {
      *                                  to {@code null}.
      */
     public static BigDecimal getTotalSalary(Employee[] employees, Month[] months) {
+        return getTotalSalary(employees, months, null);
+    }
+
+    /**
+     * Returns the total of all employees' salaries for the specified months and records every
+     * individual salary in the given quantile sketches.
+     *
+     * @param employees Array of employees for whom the total salary is calculated.
+     * @param months    An array of months for which the salary is calculated.
+     * @param quantiles The sketches the individual salaries are recorded in, or {@code null} if
+     *                  they should not be recorded.
+     * @return Total sum of salaries of all employees for the specified months rounded to two
+     * decimal places using rounding mode {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException If the employee or month array has no elements or is equal
+     *                                  to {@code null}.
+     * @see #getTotalSalary(Employee[], Month[])
+     */
+    public static BigDecimal getTotalSalary(
+            Employee[] employees,
+            Month[] months,
+            SalaryQuantiles quantiles) {
+
         ValueChecker.checkMonthCollection(months);
         ValueChecker.checkEmployeeCollection(employees);
 
@@ -30,6 +53,7 @@ public class SalaryUtils {
 
         for (var employee : employees) {
             var salary = employee.getSalary(months);
+            if (quantiles != null) quantiles.record(employee, salary);
             result = result.add(salary);
         }
 
@@ -0,0 +1,104 @@
+package org.example.analytics;
+
+import org.example.Employee;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.enums.GenderEnum;
+import org.example.enums.RoleEnum;
+import org.example.helpers.ValueChecker;
+
+import java.math.BigDecimal;
+
+/**
+ * Collects salary quantile sketches for the whole workforce, per role and per role and gender.
+ *
+ * <p>An instance is fed with {@link #record(Employee, BigDecimal)}, typically from
+ * {@link org.example.SalaryUtils#getTotalSalary(Employee[], org.example.Month[], SalaryQuantiles)}.
+ * Instances built over different partitions can be combined with {@link #merge(SalaryQuantiles)}.
+ * Like {@link SalarySketch}, this class is not thread-safe.</p>
+ */
+public class SalaryQuantiles {
+    private final int k;
+    private final SalarySketch overall;
+    private final SalarySketch[] byRole = new SalarySketch[RoleEnum.values().length];
+    private final SalarySketch[][] byRoleAndGender =
+            new SalarySketch[RoleEnum.values().length][GenderEnum.values().length];
+
+    /**
+     * Constructs a new {@code SalaryQuantiles} with the default sketch accuracy.
+     */
+    public SalaryQuantiles() {
+        this(SalarySketch.DEFAULT_K);
+    }
+
+    /**
+     * Constructs a new {@code SalaryQuantiles} whose sketches use the given accuracy parameter.
+     *
+     * @param k the accuracy parameter of the sketches, see {@link SalarySketch#SalarySketch(int)}.
+     * @throws IllegalArgumentException if {@code k} is less than 8.
+     */
+    public SalaryQuantiles(int k) {
+        this.k = k;
+        this.overall = new SalarySketch(k);
+        for (var role : RoleEnum.values()) {
+            byRole[role.ordinal()] = new SalarySketch(k);
+            for (var gender : GenderEnum.values())
+                byRoleAndGender[role.ordinal()][gender.ordinal()] = new SalarySketch(k);
+        }
+    }
+
+    /**
+     * Records the salary of an employee. Employees without a gender are only taken into account
+     * by the overall and per-role sketches.
+     *
+     * @param employee the employee the salary belongs to; must not be null.
+     * @param salary   the salary of the employee; must not be negative.
+     * @throws IllegalArgumentException if the employee is null or the salary is negative.
+     */
+    public void record(Employee employee, BigDecimal salary) {
+        ValueChecker.checkEmployee(employee);
+        ValueChecker.checkSalary(salary);
+
+        var value = salary.doubleValue();
+        var role = employee.getRole().ordinal();
+        overall.update(value);
+        byRole[role].update(value);
+        if (employee.getGender() != null)
+            byRoleAndGender[role][employee.getGender().ordinal()].update(value);
+    }
+
+    /**
+     * Merges the sketches of another instance into this one.
+     *
+     * @param other the instance to merge; must not be null and must have the same {@code k}.
+     * @throws IllegalArgumentException if the other instance is null or has a different
+     *                                  {@code k}.
+     */
+    public void merge(SalaryQuantiles other) {
+        if (other == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.SKETCH_NULL.getString());
+        if (other.k != k)
+            throw new IllegalArgumentException(ErrorMessagesEnum.SKETCH_K_MISMATCH.getString());
+        overall.merge(other.overall);
+        for (int role = 0; role < byRole.length; role++) {
+            byRole[role].merge(other.byRole[role]);
+            for (int gender = 0; gender < byRoleAndGender[role].length; gender++)
+                byRoleAndGender[role][gender].merge(other.byRoleAndGender[role][gender]);
+        }
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public SalarySketch getOverall() {
+        return overall;
+    }
+
+    public SalarySketch getSketch(RoleEnum role) {
+        return byRole[role.ordinal()];
+    }
+
+    public SalarySketch getSketch(RoleEnum role, GenderEnum gender) {
+        return byRoleAndGender[role.ordinal()][gender.ordinal()];
+    }
+}
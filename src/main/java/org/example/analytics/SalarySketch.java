@@ -0,0 +1,394 @@
+package org.example.analytics;
+
+import org.example.enums.ErrorMessagesEnum;
+import org.example.helpers.ValueChecker;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A streaming quantile sketch of salary values based on the KLL algorithm
+ * (Karnin, Lang, Liberty).
+ *
+ * <p>The sketch keeps a hierarchy of compactors: level {@code h} holds values with weight
+ * {@code 2^h}. When the sketch exceeds its capacity, the lowest full level is sorted and every
+ * other value is promoted to the next level. The memory used grows only logarithmically with the
+ * number of values, and the rank error is controlled by the parameter {@code k}: see
+ * {@link #getNormalizedRankError()}.</p>
+ *
+ * <p>Sketches with the same {@code k} built over different partitions or on different threads
+ * can be combined with {@link #merge(SalarySketch)} and stored with {@link #toByteArray()}. The
+ * sketch itself is not thread-safe: every thread should feed its own sketch and merge the
+ * results.</p>
+ */
+public class SalarySketch {
+    /**
+     * The default accuracy parameter, giving a normalized rank error of about 1.3%.
+     */
+    public static final int DEFAULT_K = 200;
+
+    private static final int MIN_K = 8;
+    private static final int MIN_LEVEL_CAPACITY = 2;
+    // Level h holds values of weight 2^h, which must fit a long.
+    private static final int MAX_LEVELS = 63;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final byte SERIAL_VERSION = 1;
+
+    private final int k;
+    private double[][] levels = new double[0][];
+    private int[] levelSizes = new int[0];
+    private int retainedCount;
+    private int totalCapacity;
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private long randomState = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Constructs a new {@code SalarySketch} with the {@link #DEFAULT_K default} accuracy.
+     */
+    public SalarySketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Constructs a new {@code SalarySketch} with the given accuracy parameter.
+     *
+     * @param k the accuracy parameter; larger values give smaller errors at the cost of memory.
+     *          Must be at least 8.
+     * @throws IllegalArgumentException if {@code k} is less than 8.
+     */
+    public SalarySketch(int k) {
+        if (k < MIN_K)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_SKETCH_K.getString());
+        this.k = k;
+        addLevel();
+    }
+
+    /**
+     * Adds a salary to the sketch.
+     *
+     * @param salary the salary to add; must not be negative.
+     * @throws IllegalArgumentException if the salary is less than zero.
+     */
+    public void update(BigDecimal salary) {
+        ValueChecker.checkSalary(salary);
+        update(salary.doubleValue());
+    }
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param value the value to add. {@code NaN} values are ignored.
+     */
+    public void update(double value) {
+        if (Double.isNaN(value)) return;
+
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        count++;
+        append(0, value);
+        compress();
+    }
+
+    /**
+     * Merges another sketch into this one. The other sketch is not modified.
+     *
+     * <p>Both sketches must have the same {@code k}: the level capacities of this sketch would
+     * otherwise not match the values compacted by the other one, and the merged sketch would
+     * not honour the {@link #getNormalizedRankError() rank error} of either of them.</p>
+     *
+     * @param other the sketch to merge; must not be null and must have the same {@code k}.
+     * @throws IllegalArgumentException if the other sketch is null or has a different {@code k}.
+     */
+    public void merge(SalarySketch other) {
+        if (other == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.SKETCH_NULL.getString());
+        if (other.k != k)
+            throw new IllegalArgumentException(ErrorMessagesEnum.SKETCH_K_MISMATCH.getString());
+        if (other.count == 0) return;
+
+        if (count == 0) {
+            min = other.min;
+            max = other.max;
+        } else {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+        count += other.count;
+
+        for (int level = 0; level < other.levels.length; level++) {
+            if (level == levels.length) addLevel();
+            for (int i = 0; i < other.levelSizes[level]; i++)
+                append(level, other.levels[level][i]);
+        }
+        compress();
+    }
+
+    /**
+     * Returns an approximation of the value at the given normalized rank.
+     *
+     * @param rank the normalized rank, from {@code 0.0} (the minimum) to {@code 1.0} (the
+     *             maximum); for instance {@code 0.5} for the median or {@code 0.99} for p99.
+     * @return the approximate quantile, or {@code NaN} if the sketch is empty.
+     * @throws IllegalArgumentException if the rank is not within {@code [0, 1]}.
+     */
+    public double getQuantile(double rank) {
+        if (!(rank >= 0.0 && rank <= 1.0))
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_RANK.getString());
+        if (count == 0) return Double.NaN;
+        if (rank == 0.0) return min;
+        if (rank == 1.0) return max;
+
+        var retained = retainedCount;
+        var values = new double[retained];
+        var weights = new long[retained];
+        var index = 0;
+        for (int level = 0; level < levels.length; level++) {
+            for (int i = 0; i < levelSizes[level]; i++) {
+                values[index] = levels[level][i];
+                weights[index] = 1L << level;
+                index++;
+            }
+        }
+        sortByValue(values, weights);
+
+        var target = rank * count;
+        long cumulative = 0;
+        for (int i = 0; i < retained; i++) {
+            cumulative += weights[i];
+            if (cumulative >= target) return values[i];
+        }
+        return max;
+    }
+
+    /**
+     * Returns an approximation of the normalized rank of the given value, that is the share of
+     * values strictly less than it.
+     *
+     * @param value the value to rank.
+     * @return the approximate normalized rank, from {@code 0.0} to {@code 1.0}, or {@code NaN} if
+     * the sketch is empty.
+     */
+    public double getRank(double value) {
+        if (count == 0) return Double.NaN;
+
+        long weight = 0;
+        for (int level = 0; level < levels.length; level++) {
+            for (int i = 0; i < levelSizes[level]; i++)
+                if (levels[level][i] < value) weight += 1L << level;
+        }
+        return (double) weight / count;
+    }
+
+    /**
+     * Returns the approximate normalized rank error of this sketch, that is the maximum expected
+     * difference between the rank of a returned quantile and the requested rank, with a 99%
+     * confidence. The empirical formula is the one published for KLL sketches.
+     *
+     * @return the normalized rank error.
+     */
+    public double getNormalizedRankError() {
+        return 2.296 / Math.pow(k, 0.9723);
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the number of values currently retained by the sketch.
+     *
+     * @return the retained value count.
+     */
+    public int getRetainedCount() {
+        return retainedCount;
+    }
+
+    /**
+     * Serializes the sketch to a compact byte array: a small header followed by the retained
+     * values of every level.
+     *
+     * @return the serialized sketch.
+     * @see #fromByteArray(byte[])
+     */
+    public byte[] toByteArray() {
+        var levelCount = levels.length;
+        var size = 1 + Integer.BYTES + Long.BYTES + 2 * Double.BYTES + Integer.BYTES
+                + levelCount * Integer.BYTES + retainedCount * Double.BYTES;
+        var buffer = ByteBuffer.allocate(size);
+
+        buffer.put(SERIAL_VERSION).putInt(k).putLong(count).putDouble(min).putDouble(max);
+        buffer.putInt(levelCount);
+        for (int level = 0; level < levelCount; level++) {
+            buffer.putInt(levelSizes[level]);
+            for (int i = 0; i < levelSizes[level]; i++)
+                buffer.putDouble(levels[level][i]);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Restores a sketch serialized by {@link #toByteArray()}.
+     *
+     * <p>The content is checked before it is trusted: the accuracy parameter, the number of
+     * levels and of retained values, the total weight of the retained values against the count,
+     * and the values against the minimum and maximum. A payload failing any check is
+     * rejected.</p>
+     *
+     * @param bytes the serialized sketch; must not be null.
+     * @return the restored sketch.
+     * @throws IllegalArgumentException if the bytes do not contain a valid sketch.
+     */
+    public static SalarySketch fromByteArray(byte[] bytes) {
+        if (bytes == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_SKETCH_DATA.getString());
+        try {
+            var buffer = ByteBuffer.wrap(bytes);
+            checkData(buffer.get() == SERIAL_VERSION);
+
+            var k = buffer.getInt();
+            checkData(k >= MIN_K);
+            var result = new SalarySketch(k);
+            result.count = buffer.getLong();
+            result.min = buffer.getDouble();
+            result.max = buffer.getDouble();
+            checkData(result.count >= 0);
+            checkData(result.count == 0
+                    ? Double.isNaN(result.min) && Double.isNaN(result.max)
+                    : result.min <= result.max);
+
+            var levelCount = buffer.getInt();
+            checkData(levelCount >= 1 && levelCount <= MAX_LEVELS);
+            while (result.levels.length < levelCount)
+                result.addLevel();
+
+            long weight = 0;
+            for (int level = 0; level < levelCount; level++) {
+                var levelSize = buffer.getInt();
+                checkData(levelSize >= 0
+                        && levelSize < result.totalCapacity - result.retainedCount
+                        && levelSize <= buffer.remaining() / Double.BYTES);
+                for (int i = 0; i < levelSize; i++) {
+                    var value = buffer.getDouble();
+                    checkData(value >= result.min && value <= result.max);
+                    result.append(level, value);
+                }
+                weight = Math.addExact(weight, Math.multiplyExact((long) levelSize, 1L << level));
+            }
+            checkData(weight == result.count && !buffer.hasRemaining());
+            return result;
+        } catch (BufferUnderflowException | ArithmeticException e) {
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_SKETCH_DATA.getString());
+        }
+    }
+
+    private static void checkData(boolean valid) {
+        if (!valid)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_SKETCH_DATA.getString());
+    }
+
+    private void addLevel() {
+        var levelCount = levels.length + 1;
+        levels = Arrays.copyOf(levels, levelCount);
+        levels[levelCount - 1] = new double[MIN_LEVEL_CAPACITY];
+        levelSizes = Arrays.copyOf(levelSizes, levelCount);
+
+        totalCapacity = 0;
+        for (int level = 0; level < levelCount; level++)
+            totalCapacity += getLevelCapacity(level);
+    }
+
+    private void append(int level, double value) {
+        var size = levelSizes[level];
+        if (size == levels[level].length)
+            levels[level] = Arrays.copyOf(levels[level], size * 2);
+        levels[level][size] = value;
+        levelSizes[level] = size + 1;
+        retainedCount++;
+    }
+
+    /**
+     * Returns the capacity of a level: the top level holds {@code k} values and every level
+     * below holds two thirds of the level above it, but never less than two values.
+     */
+    private int getLevelCapacity(int level) {
+        var depth = levels.length - 1 - level;
+        var capacity = (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth));
+        return Math.max(MIN_LEVEL_CAPACITY, capacity);
+    }
+
+    private void compress() {
+        while (retainedCount >= totalCapacity) {
+            var level = 0;
+            while (levelSizes[level] < getLevelCapacity(level))
+                level++;
+            compact(level);
+        }
+    }
+
+    /**
+     * Sorts the given level and promotes every other value to the level above it, starting
+     * from a random offset. When the level holds an odd number of values, the largest one stays
+     * at the current level.
+     */
+    private void compact(int level) {
+        if (level + 1 == levels.length) addLevel();
+
+        var values = levels[level];
+        var size = levelSizes[level];
+        Arrays.sort(values, 0, size);
+
+        var kept = size % 2 == 1 ? values[size - 1] : Double.NaN;
+        var pairs = size / 2;
+        var offset = nextRandomBit();
+        for (int i = 0; i < pairs; i++)
+            append(level + 1, values[2 * i + offset]);
+
+        levelSizes[level] = 0;
+        retainedCount -= size;
+        if (!Double.isNaN(kept)) append(level, kept);
+    }
+
+    private int nextRandomBit() {
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 7;
+        randomState ^= randomState << 17;
+        return (int) (randomState >>> 63);
+    }
+
+    private static void sortByValue(double[] values, long[] weights) {
+        var order = new Integer[values.length];
+        for (int i = 0; i < order.length; i++)
+            order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        var sortedValues = new double[values.length];
+        var sortedWeights = new long[weights.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedValues[i] = values[order[i]];
+            sortedWeights[i] = weights[order[i]];
+        }
+        System.arraycopy(sortedValues, 0, values, 0, values.length);
+        System.arraycopy(sortedWeights, 0, weights, 0, weights.length);
+    }
+}
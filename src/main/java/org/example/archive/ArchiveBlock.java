@@ -0,0 +1,302 @@
+package org.example.archive;
+
+import org.example.enums.ErrorMessagesEnum;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A block of rows of {@link PayrollArchive}, all belonging to the same period.
+ *
+ * <p>The block stores two columns: the employee ids, sorted and delta-encoded, and the amounts in
+ * cents, delta-encoded with zigzag signs. Both columns are written as variable-length integers.
+ * The statistics of the block (id and amount bounds, sum of the amounts) are kept uncompressed,
+ * so that aggregates and lookups can skip or answer a block without decoding it.</p>
+ */
+class ArchiveBlock {
+    private static final int MAX_INT_VARINT_BYTES = 5;
+    private static final int MAX_LONG_VARINT_BYTES = 10;
+
+    private final int period;
+    private final int rowCount;
+    private final int minId;
+    private final int maxId;
+    private final long minAmount;
+    private final long maxAmount;
+    private final long sum;
+    private final byte[] idColumn;
+    private final byte[] amountColumn;
+
+    private ArchiveBlock(
+            int period,
+            int rowCount,
+            int minId,
+            int maxId,
+            long minAmount,
+            long maxAmount,
+            long sum,
+            byte[] idColumn,
+            byte[] amountColumn) {
+
+        this.period = period;
+        this.rowCount = rowCount;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.sum = sum;
+        this.idColumn = idColumn;
+        this.amountColumn = amountColumn;
+    }
+
+    /**
+     * Encodes a block from rows sorted by employee id.
+     *
+     * @param period  the period of the rows.
+     * @param ids     the sorted employee ids.
+     * @param amounts the amounts in cents, in the order of the ids.
+     * @param from    the index of the first row.
+     * @param to      the index after the last row.
+     * @return the encoded block.
+     */
+    static ArchiveBlock encode(int period, int[] ids, long[] amounts, int from, int to) {
+        var idWriter = new VarIntWriter((to - from) * 2);
+        var amountWriter = new VarIntWriter((to - from) * 3);
+        var minAmount = Long.MAX_VALUE;
+        var maxAmount = Long.MIN_VALUE;
+        long sum = 0;
+        long previousId = 0;
+        long previousAmount = 0;
+
+        for (int i = from; i < to; i++) {
+            idWriter.write(ids[i] - previousId);
+            amountWriter.write(zigzag(amounts[i] - previousAmount));
+            previousId = ids[i];
+            previousAmount = amounts[i];
+            minAmount = Math.min(minAmount, amounts[i]);
+            maxAmount = Math.max(maxAmount, amounts[i]);
+            sum = Math.addExact(sum, amounts[i]);
+        }
+
+        return new ArchiveBlock(
+                period,
+                to - from,
+                ids[from],
+                ids[to - 1],
+                minAmount,
+                maxAmount,
+                sum,
+                idWriter.toByteArray(),
+                amountWriter.toByteArray());
+    }
+
+    int getPeriod() {
+        return period;
+    }
+
+    int getRowCount() {
+        return rowCount;
+    }
+
+    int getMinId() {
+        return minId;
+    }
+
+    int getMaxId() {
+        return maxId;
+    }
+
+    long getMinAmount() {
+        return minAmount;
+    }
+
+    long getMaxAmount() {
+        return maxAmount;
+    }
+
+    long getSum() {
+        return sum;
+    }
+
+    int getEncodedSize() {
+        return idColumn.length + amountColumn.length;
+    }
+
+    /**
+     * Decodes both columns into the given arrays, which must hold at least
+     * {@link #getRowCount()} values.
+     */
+    void decode(int[] ids, long[] amounts) {
+        var position = new int[1];
+        long id = 0;
+        for (int i = 0; i < rowCount; i++) {
+            id += readVarLong(idColumn, position);
+            ids[i] = (int) id;
+        }
+
+        position[0] = 0;
+        long amount = 0;
+        for (int i = 0; i < rowCount; i++) {
+            amount += unzigzag(readVarLong(amountColumn, position));
+            amounts[i] = amount;
+        }
+    }
+
+    /**
+     * Returns the amount of the given employee, decoding the columns only up to its row.
+     *
+     * @return the amount in cents, or {@code null} if the block has no row for the employee.
+     */
+    Long find(int employeeId) {
+        if (employeeId < minId || employeeId > maxId) return null;
+
+        var idPosition = new int[1];
+        var amountPosition = new int[1];
+        long id = 0;
+        long amount = 0;
+        for (int i = 0; i < rowCount; i++) {
+            id += readVarLong(idColumn, idPosition);
+            amount += unzigzag(readVarLong(amountColumn, amountPosition));
+            if (id == employeeId) return amount;
+            if (id > employeeId) return null;
+        }
+        return null;
+    }
+
+    void writeTo(DataOutput output) throws IOException {
+        output.writeInt(period);
+        output.writeInt(rowCount);
+        output.writeInt(minId);
+        output.writeInt(maxId);
+        output.writeLong(minAmount);
+        output.writeLong(maxAmount);
+        output.writeLong(sum);
+        output.writeInt(idColumn.length);
+        output.write(idColumn);
+        output.writeInt(amountColumn.length);
+        output.write(amountColumn);
+    }
+
+    /**
+     * Reads a block written by {@link #writeTo(DataOutput)}. The header is checked before the
+     * columns are allocated, and the columns are decoded once to check them against the
+     * statistics of the block.
+     *
+     * @param input   the input to read from.
+     * @param maxRows the maximum number of rows of a block.
+     * @return the block.
+     * @throws IOException              if the input cannot be read or ends before the block.
+     * @throws IllegalArgumentException if the block is corrupted.
+     */
+    static ArchiveBlock readFrom(DataInput input, int maxRows) throws IOException {
+        var period = input.readInt();
+        var rowCount = input.readInt();
+        var minId = input.readInt();
+        var maxId = input.readInt();
+        var minAmount = input.readLong();
+        var maxAmount = input.readLong();
+        var sum = input.readLong();
+        checkBlock(rowCount >= 1 && rowCount <= maxRows);
+        checkBlock(minId >= 0 && minId <= maxId && minAmount <= maxAmount);
+
+        var idLength = input.readInt();
+        checkBlock(idLength >= rowCount && idLength <= rowCount * MAX_INT_VARINT_BYTES);
+        var idColumn = new byte[idLength];
+        input.readFully(idColumn);
+        var amountLength = input.readInt();
+        checkBlock(amountLength >= rowCount && amountLength <= rowCount * MAX_LONG_VARINT_BYTES);
+        var amountColumn = new byte[amountLength];
+        input.readFully(amountColumn);
+
+        var result = new ArchiveBlock(
+                period, rowCount, minId, maxId, minAmount, maxAmount, sum, idColumn, amountColumn);
+        checkBlock(result.isConsistent());
+        return result;
+    }
+
+    /**
+     * Returns whether the columns decode to exactly {@link #getRowCount()} rows with strictly
+     * increasing ids, matching the id bounds, the amount bounds and the sum of the block.
+     */
+    private boolean isConsistent() {
+        var idPosition = new int[1];
+        var amountPosition = new int[1];
+        long firstId = 0;
+        long id = 0;
+        long amount = 0;
+        long total = 0;
+        try {
+            for (int i = 0; i < rowCount; i++) {
+                var delta = readVarLong(idColumn, idPosition);
+                if (i > 0 && delta <= 0) return false;
+                id += delta;
+                if (i == 0) firstId = id;
+                if (id < minId || id > maxId) return false;
+
+                amount += unzigzag(readVarLong(amountColumn, amountPosition));
+                if (amount < minAmount || amount > maxAmount) return false;
+                total = Math.addExact(total, amount);
+            }
+        } catch (ArrayIndexOutOfBoundsException | ArithmeticException e) {
+            return false;
+        }
+        return firstId == minId
+                && id == maxId
+                && total == sum
+                && idPosition[0] == idColumn.length
+                && amountPosition[0] == amountColumn.length;
+    }
+
+    private static void checkBlock(boolean valid) {
+        if (!valid)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_ARCHIVE.getString());
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long result = 0;
+        var shift = 0;
+        byte current;
+        do {
+            current = bytes[position[0]++];
+            result |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while (current < 0);
+        return result;
+    }
+
+    /**
+     * A growable byte array receiving unsigned variable-length integers: seven bits per byte,
+     * the high bit marking that more bytes follow.
+     */
+    private static class VarIntWriter {
+        private byte[] bytes;
+        private int size;
+
+        VarIntWriter(int initialCapacity) {
+            bytes = new byte[Math.max(16, initialCapacity)];
+        }
+
+        void write(long value) {
+            if (bytes.length - size < 10) bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
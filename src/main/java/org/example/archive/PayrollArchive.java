@@ -0,0 +1,295 @@
+package org.example.archive;
+
+import org.example.Employee;
+import org.example.Month;
+import org.example.MonthUtils;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.helpers.ValueChecker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A columnar archive of historical payroll results: one amount per employee per period.
+ *
+ * <p>Amounts are stored in cents, rounded to two decimal places using rounding mode
+ * {@link RoundingMode#HALF_UP} like the payroll totals. The rows of every appended period are
+ * sorted by employee id and split into blocks of at most {@value #BLOCK_ROWS} rows; every block
+ * stores its columns delta- and varint-encoded together with its statistics (see
+ * {@link ArchiveBlock}). Aggregates over a range of periods are answered from the block sums
+ * without decoding any column, and lookups decode only the blocks whose id bounds contain the
+ * requested employee.</p>
+ *
+ * <p>Periods are the indexes returned by {@link MonthUtils#getPeriod(int, int)} and must be
+ * appended in ascending order. The class is not thread-safe.</p>
+ */
+public class PayrollArchive {
+    private static final int BLOCK_ROWS = 4096;
+    private static final int MAGIC = 0x50415941;
+    private static final int VERSION = 1;
+
+    private final List<ArchiveBlock> blocks = new ArrayList<>();
+    private int lastPeriod = Integer.MIN_VALUE;
+
+    /**
+     * Appends the salaries of a workforce for a new period, using the positions of the employees
+     * in the array as their ids.
+     *
+     * @param period    the period; must be greater than the last archived period.
+     * @param employees the employees; must not be null or empty.
+     * @param months    the months the salaries are computed for; must not be null or empty.
+     * @throws IllegalArgumentException if the period is not greater than the last archived period
+     *                                  or any of the collections is null or empty.
+     */
+    public void appendPeriod(int period, Employee[] employees, Month[] months) {
+        ValueChecker.checkEmployeeCollection(employees);
+        ValueChecker.checkMonthCollection(months);
+
+        var ids = new int[employees.length];
+        var salaries = new BigDecimal[employees.length];
+        for (int i = 0; i < employees.length; i++) {
+            ids[i] = i;
+            salaries[i] = employees[i].getSalary(months);
+        }
+        appendPeriod(period, ids, salaries);
+    }
+
+    /**
+     * Appends the salaries of a new period.
+     *
+     * @param period      the period; must be greater than the last archived period.
+     * @param employeeIds the distinct, non-negative ids of the employees, in any order.
+     * @param salaries    the salaries, in the order of the ids.
+     * @throws IllegalArgumentException if the period is not greater than the last archived period,
+     *                                  the collections are null or have different sizes, or an id
+     *                                  is negative or appears more than once.
+     */
+    public void appendPeriod(int period, int[] employeeIds, BigDecimal[] salaries) {
+        if (period <= lastPeriod)
+            throw new IllegalArgumentException(ErrorMessagesEnum.ARCHIVE_PERIOD_ORDER.getString());
+        if (employeeIds == null || salaries == null || employeeIds.length != salaries.length)
+            throw new IllegalArgumentException(
+                    ErrorMessagesEnum.ARCHIVE_SIZE_MISMATCH.getString());
+
+        var rowCount = employeeIds.length;
+        var ids = new int[rowCount];
+        var amounts = new long[rowCount];
+        if (isSorted(employeeIds)) {
+            System.arraycopy(employeeIds, 0, ids, 0, rowCount);
+            for (int i = 0; i < rowCount; i++)
+                amounts[i] = toCents(salaries[i]);
+        } else {
+            var order = new Integer[rowCount];
+            for (int i = 0; i < rowCount; i++)
+                order[i] = i;
+            Arrays.sort(order, Comparator.comparingInt(i -> employeeIds[i]));
+            for (int i = 0; i < rowCount; i++) {
+                ids[i] = employeeIds[order[i]];
+                amounts[i] = toCents(salaries[order[i]]);
+            }
+        }
+        checkIds(ids);
+
+        for (int from = 0; from < rowCount; from += BLOCK_ROWS)
+            blocks.add(ArchiveBlock.encode(
+                    period,
+                    ids,
+                    amounts,
+                    from,
+                    Math.min(from + BLOCK_ROWS, rowCount)));
+        lastPeriod = period;
+    }
+
+    /**
+     * Returns the total of the archived amounts over an inclusive range of periods. The total is
+     * computed from the block statistics, without decoding the columns.
+     *
+     * @param fromPeriod the first period of the range.
+     * @param toPeriod   the last period of the range.
+     * @return the total amount.
+     */
+    public BigDecimal getTotal(int fromPeriod, int toPeriod) {
+        long result = 0;
+        for (var block : blocks)
+            if (block.getPeriod() >= fromPeriod && block.getPeriod() <= toPeriod)
+                result = Math.addExact(result, block.getSum());
+        return BigDecimal.valueOf(result, 2);
+    }
+
+    /**
+     * Returns the total of the archived amounts of a year.
+     *
+     * @param year the year.
+     * @return the total amount of the twelve periods of the year.
+     */
+    public BigDecimal getTotalForYear(int year) {
+        return getTotal(MonthUtils.getPeriod(year, 1), MonthUtils.getPeriod(year, 12));
+    }
+
+    /**
+     * Returns the amounts of an employee over an inclusive range of periods. Only the blocks of
+     * the range whose id bounds contain the employee are decoded.
+     *
+     * @param employeeId the id of the employee.
+     * @param fromPeriod the first period of the range.
+     * @param toPeriod   the last period of the range; must not precede the first period.
+     * @return the amounts indexed by {@code period - fromPeriod}, with {@code null} for the
+     * periods without an amount for the employee.
+     * @throws IllegalArgumentException if the range is empty.
+     */
+    public BigDecimal[] getTrend(int employeeId, int fromPeriod, int toPeriod) {
+        if (toPeriod < fromPeriod)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_PERIOD_RANGE.getString());
+
+        var result = new BigDecimal[toPeriod - fromPeriod + 1];
+        for (var block : blocks) {
+            if (block.getPeriod() < fromPeriod || block.getPeriod() > toPeriod) continue;
+            var amount = block.find(employeeId);
+            if (amount != null)
+                result[block.getPeriod() - fromPeriod] = BigDecimal.valueOf(amount, 2);
+        }
+        return result;
+    }
+
+    /**
+     * Scans the rows of an inclusive range of periods block by block. Every block is decoded into
+     * reusable primitive arrays which are passed to the visitor as a batch.
+     *
+     * @param fromPeriod the first period of the range.
+     * @param toPeriod   the last period of the range.
+     * @param visitor    the visitor receiving the batches; must not be null.
+     */
+    public void scan(int fromPeriod, int toPeriod, BatchVisitor visitor) {
+        var ids = new int[BLOCK_ROWS];
+        var amounts = new long[BLOCK_ROWS];
+        for (var block : blocks) {
+            if (block.getPeriod() < fromPeriod || block.getPeriod() > toPeriod) continue;
+            block.decode(ids, amounts);
+            visitor.visit(block.getPeriod(), ids, amounts, block.getRowCount());
+        }
+    }
+
+    public int getBlockCount() {
+        return blocks.size();
+    }
+
+    /**
+     * Returns the size of the encoded columns of all the blocks.
+     *
+     * @return the size in bytes.
+     */
+    public long getEncodedSize() {
+        long result = 0;
+        for (var block : blocks)
+            result += block.getEncodedSize();
+        return result;
+    }
+
+    /**
+     * Writes the archive to a file, replacing its content.
+     *
+     * @param file the file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeTo(Path file) throws IOException {
+        try (var output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(blocks.size());
+            for (var block : blocks)
+                block.writeTo(output);
+        }
+    }
+
+    /**
+     * Reads an archive written by {@link #writeTo(Path)}. Every block is checked against its
+     * statistics, and the blocks must follow each other in the order they were appended.
+     *
+     * @param file the file to read.
+     * @return the archive.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file does not hold a valid archive, including a
+     *                                  truncated or corrupted one.
+     */
+    public static PayrollArchive readFrom(Path file) throws IOException {
+        try (var input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            checkArchive(input.readInt() == MAGIC && input.readInt() == VERSION);
+
+            var result = new PayrollArchive();
+            var blockCount = input.readInt();
+            checkArchive(blockCount >= 0);
+            ArchiveBlock previous = null;
+            for (int i = 0; i < blockCount; i++) {
+                var block = ArchiveBlock.readFrom(input, BLOCK_ROWS);
+                if (previous != null) {
+                    checkArchive(block.getPeriod() >= previous.getPeriod());
+                    checkArchive(block.getPeriod() > previous.getPeriod()
+                            || block.getMinId() > previous.getMaxId());
+                }
+                result.blocks.add(block);
+                result.lastPeriod = block.getPeriod();
+                previous = block;
+            }
+            checkArchive(input.read() < 0);
+            return result;
+        } catch (EOFException e) {
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_ARCHIVE.getString());
+        }
+    }
+
+    /**
+     * Receives the decoded rows of one block during {@link #scan(int, int, BatchVisitor)}.
+     */
+    public interface BatchVisitor {
+        /**
+         * Visits a batch of rows. The arrays are reused between calls and must not be retained.
+         *
+         * @param period   the period of the rows.
+         * @param ids      the employee ids, in ascending order.
+         * @param amounts  the amounts in cents.
+         * @param rowCount the number of valid rows in the arrays.
+         */
+        void visit(int period, int[] ids, long[] amounts, int rowCount);
+    }
+
+    /**
+     * Checks that sorted ids are non-negative and distinct.
+     */
+    private static void checkIds(int[] sortedIds) {
+        if (sortedIds.length > 0 && sortedIds[0] < 0)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_EMPLOYEE_ID.getString());
+        for (int i = 1; i < sortedIds.length; i++)
+            if (sortedIds[i] == sortedIds[i - 1])
+                throw new IllegalArgumentException(
+                        ErrorMessagesEnum.ARCHIVE_DUPLICATE_ID.getString());
+    }
+
+    private static void checkArchive(boolean valid) {
+        if (!valid)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_ARCHIVE.getString());
+    }
+
+    private static boolean isSorted(int[] values) {
+        for (int i = 1; i < values.length; i++)
+            if (values[i] < values[i - 1]) return false;
+        return true;
+    }
+
+    private static long toCents(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
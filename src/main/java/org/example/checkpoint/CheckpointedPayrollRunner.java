@@ -0,0 +1,260 @@
+package org.example.checkpoint;
+
+import org.example.Employee;
+import org.example.Manager;
+import org.example.Month;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.helpers.ValueChecker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.zip.CRC32;
+
+/**
+ * Computes the total salary of a workforce in numbered batches, persisting a checkpoint after
+ * every batch so that a failed run can be resumed instead of restarted.
+ *
+ * <p>A checkpoint holds the index of the next batch and the total of all the previous batches.
+ * Both are written together with a CRC-32 checksum to a temporary file, forced to the storage
+ * device and moved over the checkpoint file with an atomic move, after which the directory is
+ * forced as well. A crash therefore leaves either the previous or the new checkpoint and never a
+ * total that does not match the cursor. On resume, the batches before the cursor are skipped,
+ * hence nothing is counted twice.</p>
+ *
+ * <p>The checkpoint also records a fingerprint of the run (the batch size, the months and the
+ * name, role, wage and manager data of every employee); a checkpoint left by a different run,
+ * or by the same workforce with changed wages, is ignored, as is a truncated one or one whose
+ * checksum does not match.
+ * Its cost is one small synchronous write per batch, so the batch size should be large enough
+ * for this write to stay negligible compared to the computation of the batch. When batches are
+ * short, a minimum interval between checkpoints can be set with
+ * {@link #setCheckpointInterval(Duration)}: the batches completed in between are then saved by
+ * the next checkpoint.</p>
+ */
+public class CheckpointedPayrollRunner {
+    private static final int MAGIC = 0x50434B50;
+    private static final int VERSION = 3;
+
+    private final Path checkpointFile;
+    private final Path temporaryFile;
+    private final int batchSize;
+    private long checkpointIntervalNanos;
+    private int resumedFromBatch;
+
+    /**
+     * Constructs a new {@code CheckpointedPayrollRunner}.
+     *
+     * @param checkpointFile the file the checkpoints are stored in; must not be null.
+     * @param batchSize      the number of employees per batch; must be greater than 0.
+     * @throws IllegalArgumentException if the file is null or the batch size is less than 1.
+     */
+    public CheckpointedPayrollRunner(Path checkpointFile, int batchSize) {
+        if (checkpointFile == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.CHECKPOINT_FILE_NULL.getString());
+        ValueChecker.checkPositive(batchSize, ErrorMessagesEnum.INVALID_BATCH_SIZE);
+        this.checkpointFile = checkpointFile.toAbsolutePath();
+        this.temporaryFile = this.checkpointFile.resolveSibling(
+                this.checkpointFile.getFileName() + ".tmp");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets the minimum time between two checkpoints. By default a checkpoint is written after
+     * every batch.
+     *
+     * @param value the minimum interval; must not be null or negative.
+     * @return the current {@code CheckpointedPayrollRunner} instance for method chaining.
+     * @throws IllegalArgumentException if the interval is null or negative.
+     */
+    public CheckpointedPayrollRunner setCheckpointInterval(Duration value) {
+        if (value == null || value.isNegative())
+            throw new IllegalArgumentException(
+                    ErrorMessagesEnum.INVALID_CHECKPOINT_INTERVAL.getString());
+        this.checkpointIntervalNanos = value.toNanos();
+        return this;
+    }
+
+    /**
+     * Returns the total of all employees' salaries for the specified months, resuming from the
+     * checkpoint of a previous run of the same computation if there is one. The checkpoint is
+     * deleted once the run completes.
+     *
+     * @param employees the employees; must not be null or empty.
+     * @param months    the months for which the salary is calculated; must not be null or empty.
+     * @return Total sum of salaries of all employees for the specified months rounded to two
+     * decimal places using rounding mode {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException if any of the collections is null or empty.
+     * @throws IOException              if a checkpoint cannot be read or written.
+     */
+    public BigDecimal run(Employee[] employees, Month[] months) throws IOException {
+        ValueChecker.checkMonthCollection(months);
+        ValueChecker.checkEmployeeCollection(employees);
+
+        var fingerprint = getFingerprint(employees, months);
+        var batchCount = (employees.length + batchSize - 1) / batchSize;
+        var batch = 0;
+        var total = BigDecimal.ZERO;
+
+        var checkpoint = readCheckpoint(fingerprint, batchCount);
+        if (checkpoint != null) {
+            batch = checkpoint.nextBatch;
+            total = checkpoint.total;
+        }
+        resumedFromBatch = batch;
+
+        var lastCheckpoint = System.nanoTime();
+        for (; batch < batchCount; batch++) {
+            var to = Math.min((batch + 1) * batchSize, employees.length);
+            for (int i = batch * batchSize; i < to; i++)
+                total = total.add(employees[i].getSalary(months));
+
+            var now = System.nanoTime();
+            if (now - lastCheckpoint >= checkpointIntervalNanos) {
+                writeCheckpoint(fingerprint, batch + 1, total);
+                lastCheckpoint = now;
+            }
+        }
+
+        Files.deleteIfExists(checkpointFile);
+        return total.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Returns the batch the last run started from.
+     *
+     * @return the index of the first batch computed by the last run, 0 if it did not resume.
+     */
+    public int getResumedFromBatch() {
+        return resumedFromBatch;
+    }
+
+    /**
+     * Returns a fingerprint of every input the salaries depend on: the batch size, the months,
+     * and the name, role, wage and manager data of every employee. Wages are compared by value,
+     * so a change of scale alone does not invalidate a checkpoint.
+     */
+    private long getFingerprint(Employee[] employees, Month[] months) {
+        long result = 31L * batchSize + employees.length;
+        for (var month : months)
+            result = 31L * result + month.getName().hashCode() * 31L + month.getWorkDays();
+        for (var employee : employees) {
+            var wage = employee.getWage();
+            result = 31L * result + employee.getName().hashCode();
+            result = 31L * result + employee.getRole().ordinal();
+            result = 31L * result + (wage == null ? 0 : wage.stripTrailingZeros().hashCode());
+            if (employee instanceof Manager) {
+                var manager = (Manager) employee;
+                result = 31L * result + manager.getSubordinateNumber();
+                result = 31L * result + manager.getSalarySupplementPercent();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the checkpoint of the run with the given fingerprint. A checkpoint of another run,
+     * or a truncated or corrupted one, is treated as absent.
+     */
+    private Checkpoint readCheckpoint(long fingerprint, int batchCount) throws IOException {
+        if (!Files.exists(checkpointFile)) return null;
+
+        var bytes = Files.readAllBytes(checkpointFile);
+        var payloadLength = bytes.length - Integer.BYTES;
+        if (payloadLength < 0) return null;
+        var checksum = ByteBuffer.wrap(bytes, payloadLength, Integer.BYTES).getInt();
+        if (checksum != getChecksum(bytes, payloadLength)) return null;
+
+        try (var input = new DataInputStream(new ByteArrayInputStream(bytes, 0, payloadLength))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) return null;
+            if (input.readLong() != fingerprint) return null;
+            var nextBatch = input.readInt();
+            if (nextBatch < 0 || nextBatch > batchCount) return null;
+            var total = new BigDecimal(input.readUTF());
+            return new Checkpoint(nextBatch, total);
+        } catch (EOFException | UTFDataFormatException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void writeCheckpoint(long fingerprint, int nextBatch, BigDecimal total)
+            throws IOException {
+
+        var bytes = new ByteArrayOutputStream(64);
+        try (var output = new DataOutputStream(bytes)) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(fingerprint);
+            output.writeInt(nextBatch);
+            output.writeUTF(total.toString());
+        }
+        var payload = bytes.toByteArray();
+
+        try (var channel = FileChannel.open(
+                temporaryFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            var buffer = ByteBuffer.allocate(payload.length + Integer.BYTES)
+                    .put(payload)
+                    .putInt(getChecksum(payload, payload.length))
+                    .flip();
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            channel.force(true);
+        }
+        Files.move(
+                temporaryFile,
+                checkpointFile,
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        forceDirectory();
+    }
+
+    /**
+     * Forces the directory of the checkpoint file to the storage device, so that the rename made
+     * by the atomic move survives a crash. Platforms that cannot open a directory as a channel,
+     * such as Windows, persist the rename with the move itself.
+     */
+    private void forceDirectory() throws IOException {
+        var directory = checkpointFile.toAbsolutePath().getParent();
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    private static int getChecksum(byte[] bytes, int length) {
+        var crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    private static class Checkpoint {
+        private final int nextBatch;
+        private final BigDecimal total;
+
+        Checkpoint(int nextBatch, BigDecimal total) {
+            this.nextBatch = nextBatch;
+            this.total = total;
+        }
+    }
+}
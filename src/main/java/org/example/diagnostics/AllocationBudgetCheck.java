@@ -0,0 +1,182 @@
+package org.example.diagnostics;
+
+import org.example.Employee;
+import org.example.Manager;
+import org.example.Month;
+import org.example.MonthUtils;
+import org.example.SalaryUtils;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.enums.GenderEnum;
+import org.example.enums.OutputStringPatternEnum;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Checks that the salary hot paths stay within their declared allocation budgets.
+ *
+ * <p>Each path is warmed up so that the JIT compiler has optimized it, then called repeatedly
+ * while the bytes allocated by the current thread are read from the
+ * {@link com.sun.management.ThreadMXBean} allocation counter. The average number of bytes per
+ * call is compared to the budget of the path.</p>
+ *
+ * <p>The {@link #main(String[])} method is a diagnostic run by hand, for instance before and
+ * after changing a hot path. It prints one line per path and exits with status 1 when any path
+ * exceeds its budget. Budgets are set about 20% above the values measured with the default
+ * HotSpot configuration, which is less than one extra {@link BigDecimal} per call for the
+ * smallest path; when an optimization lowers the allocations of a path, its budget should be
+ * lowered as well.</p>
+ *
+ * <p>The measured values depend on the JIT compiler: the budgets only hold when C2 removes the
+ * temporary objects by escape analysis, and the interpreter or C1 allocate up to three times
+ * more. The check therefore refuses to run when the JVM is not configured that way, rather than
+ * reporting failures that are not caused by the code.</p>
+ */
+public class AllocationBudgetCheck {
+    private static final int WARMUP_CALLS = 200_000;
+    private static final int MEASURED_CALLS = 100_000;
+
+    /**
+     * Runs the allocation checks of the salary hot paths.
+     *
+     * @param args not used.
+     * @throws IllegalStateException if the JVM does not run the C2 compiler with escape analysis
+     *                               or does not provide thread allocation counters.
+     */
+    public static void main(String[] args) {
+        checkCompilerMode();
+        var failed = 0;
+        for (var budget : getBudgets()) {
+            var bytesPerCall = measureBytesPerCall(budget.action);
+            var withinBudget = bytesPerCall <= budget.bytesPerCall;
+            if (!withinBudget) failed++;
+            System.out.printf(
+                    OutputStringPatternEnum.ALLOCATION_BUDGET.getString(),
+                    withinBudget ? "OK" : "FAIL",
+                    budget.name,
+                    bytesPerCall,
+                    budget.bytesPerCall);
+        }
+        if (failed > 0) System.exit(1);
+    }
+
+    /**
+     * Measures the average number of bytes allocated by one call of the given action on the
+     * current thread, after a warm-up phase.
+     *
+     * @param action the action to measure.
+     * @return the average number of allocated bytes per call.
+     * @throws IllegalStateException if the JVM does not provide thread allocation counters.
+     */
+    public static long measureBytesPerCall(Runnable action) {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean))
+            throw new IllegalStateException(
+                    ErrorMessagesEnum.ALLOCATION_COUNTERS_UNSUPPORTED.getString());
+
+        var bean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!bean.isThreadAllocatedMemorySupported())
+            throw new IllegalStateException(
+                    ErrorMessagesEnum.ALLOCATION_COUNTERS_UNSUPPORTED.getString());
+        bean.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < WARMUP_CALLS; i++)
+            action.run();
+
+        var before = bean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++)
+            action.run();
+        var allocated = bean.getCurrentThreadAllocatedBytes() - before;
+
+        return allocated / MEASURED_CALLS;
+    }
+
+    /**
+     * Checks that the JVM compiles hot code with C2 and scalar-replaces non-escaping objects, the
+     * configuration the budgets were measured with. This rejects {@code -Xint},
+     * {@code -XX:TieredStopAtLevel} below 4 and disabled escape analysis.
+     *
+     * @throws IllegalStateException if the JVM is not HotSpot or is configured otherwise.
+     */
+    private static void checkCompilerMode() {
+        var bean = ManagementFactory.getPlatformMXBean(
+                com.sun.management.HotSpotDiagnosticMXBean.class);
+        if (bean == null)
+            throw new IllegalStateException(
+                    ErrorMessagesEnum.UNSUPPORTED_COMPILER_MODE.getString());
+
+        var supported = false;
+        try {
+            var c2Enabled = !getBooleanOption(bean, "TieredCompilation")
+                    || Integer.parseInt(bean.getVMOption("TieredStopAtLevel").getValue()) == 4;
+            supported = getBooleanOption(bean, "UseCompiler")
+                    && c2Enabled
+                    && getBooleanOption(bean, "DoEscapeAnalysis")
+                    && getBooleanOption(bean, "EliminateAllocations");
+        } catch (IllegalArgumentException e) {
+            // An option is missing, as on a JVM built without C2.
+        }
+        if (!supported)
+            throw new IllegalStateException(
+                    ErrorMessagesEnum.UNSUPPORTED_COMPILER_MODE.getString());
+    }
+
+    private static boolean getBooleanOption(
+            com.sun.management.HotSpotDiagnosticMXBean bean,
+            String name) {
+
+        return Boolean.parseBoolean(bean.getVMOption(name).getValue());
+    }
+
+    /**
+     * Returns the budgets of the salary hot paths, measured over two months.
+     */
+    private static List<Budget> getBudgets() {
+        var monthUtils = new MonthUtils();
+        Month[] months = {
+                monthUtils.getMonth("January").orElseThrow(),
+                monthUtils.getMonth("February").orElseThrow()};
+
+        var employee = new Employee(
+                "Budget Employee",
+                30,
+                GenderEnum.MALE,
+                BigDecimal.valueOf(10.10));
+        var manager = new Manager(
+                "Budget Manager",
+                40,
+                GenderEnum.FEMALE,
+                BigDecimal.valueOf(99.99),
+                2,
+                1);
+        Employee[] workforce = {employee, manager, employee, manager};
+
+        var sink = new Object[1];
+        return List.of(
+                new Budget(
+                        "Employee.getSalary",
+                        96,
+                        () -> sink[0] = employee.getSalary(months)),
+                new Budget(
+                        "Manager.getSalary",
+                        288,
+                        () -> sink[0] = manager.getSalary(months)),
+                new Budget(
+                        "SalaryUtils.getTotalSalary (4 employees)",
+                        960,
+                        () -> sink[0] = SalaryUtils.getTotalSalary(workforce, months)));
+    }
+
+    private static class Budget {
+        private final String name;
+        private final long bytesPerCall;
+        private final Runnable action;
+
+        Budget(String name, long bytesPerCall, Runnable action) {
+            this.name = name;
+            this.bytesPerCall = bytesPerCall;
+            this.action = action;
+        }
+    }
+}
@@ -24,7 +24,51 @@ public enum ErrorMessagesEnum {
     GENDER_NULL("Gender cannot be null."),
     AGE_LESS_ZERO("Age cannot be less than 0."),
     INVALID_SUBORDINATES_NUMBER("The subordinates number is invalid."),
-    INVALID_SALARY_PERCENT("The salary supplement percent is invalid.");
+    INVALID_SALARY_PERCENT("The salary supplement percent is invalid."),
+    INVALID_BATCH_SIZE("The batch size must be greater than 0."),
+    INVALID_PARALLELISM("The parallelism level must be greater than 0."),
+    INVALID_DEMAND("The requested number of items must be greater than 0."),
+    EXECUTOR_NULL("The executor cannot be null."),
+    CHANNEL_NULL("The output channel cannot be null."),
+    REPORT_LAYOUT_NULL("The report layout cannot be null."),
+    EMPTY_TENANT("The tenant cannot be empty."),
+    PAYROLL_REQUEST_NULL("The payroll request cannot be null."),
+    INVALID_TENANT_CONCURRENCY("The number of concurrent jobs per tenant must be greater than 0."),
+    INVALID_SKETCH_K("The sketch accuracy parameter must be at least 8."),
+    SKETCH_NULL("The sketch cannot be null."),
+    INVALID_RANK("The rank must be between 0 and 1."),
+    INVALID_SKETCH_DATA("The serialized sketch is invalid."),
+    INVALID_PERIOD_RANGE("The last period cannot precede the first period."),
+    WAGE_HISTORY_NULL("The wage history cannot be null."),
+    WAGE_HISTORY_SIZE_MISMATCH("The wage history collections must have the same size."),
+    LISTENER_NULL("The listener cannot be null."),
+    ROLE_NULL("Role cannot be null."),
+    EMPLOYEE_FILTER_NULL("The employee filter cannot be null."),
+    INVALID_VALUE_RANGE("The upper bound of the range cannot be less than the lower bound."),
+    SALARY_ENGINE_NULL("The salary engine cannot be null."),
+    INVALID_SAMPLE_RATE("The sample rate must be between 0 and 1."),
+    ARCHIVE_PERIOD_ORDER("The period must follow the last archived period."),
+    ARCHIVE_SIZE_MISMATCH("The employee and salary collections must have the same size."),
+    INVALID_ARCHIVE("The payroll archive is invalid."),
+    CHECKPOINT_FILE_NULL("The checkpoint file cannot be null."),
+    INVALID_CHECKPOINT_INTERVAL("The checkpoint interval cannot be null or negative."),
+    ALLOCATION_COUNTERS_UNSUPPORTED("The JVM does not support thread allocation counters."),
+    INVALID_EMPLOYEE_ID("The employee id is invalid."),
+    DUPLICATE_EMPLOYEE_ID("The employee id appears more than once in the cohort."),
+    COHORT_SIZE_MISMATCH("The cohort collections must have the same size."),
+    COHORT_NULL("The cohort cannot be null."),
+    PAYSLIP_TEMPLATE_NULL("The payslip template cannot be null."),
+    INVALID_PAYSLIP_TEMPLATE("The payslip template holds an unknown or unterminated placeholder."),
+    DIRECTORY_NULL("The output directory cannot be null."),
+    INVALID_FILE_SIZE("The maximum file size must be greater than 0."),
+    INVALID_PAYSLIP_INDEX("The payslip index is invalid."),
+    INVALID_MONTH_MASK("The month mask must be between 0 and 4095."),
+    SERVICE_CLOSED("The payroll job service is closed."),
+    MISMATCH_HANDLER_NULL("The mismatch handler cannot be null."),
+    SKETCH_K_MISMATCH("Only sketches with the same accuracy parameter can be merged."),
+    ARCHIVE_DUPLICATE_ID("The employee id appears more than once in the period."),
+    UNSUPPORTED_COMPILER_MODE("The allocation budgets require C2 with escape analysis."),
+    MONTH_SUBSETS_NULL("The month subsets cannot be null.");
 
     private final String displayName;
 
@@ -9,7 +9,8 @@ package org.example.enums;
 public enum OutputStringPatternEnum {
     TOTAL_SALARY("Total salary: %s%n"),
     EMPLOYEE_SALARY("Salary for %s: %s%n"),
-    ERROR("[ERROR] %s%s%n");
+    ERROR("[ERROR] %s%s%n"),
+    ALLOCATION_BUDGET("[%s] %s: %d bytes per call (budget %d)%n");
 
     private final String displayName;
 
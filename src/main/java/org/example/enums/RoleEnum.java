@@ -0,0 +1,20 @@
+package org.example.enums;
+
+/**
+ * Enum representing the roles an employee can hold in the company.
+ */
+public enum RoleEnum {
+    EMPLOYEE("Employee"),
+    MANAGER("Manager"),
+    DIRECTOR("Director");
+
+    private final String displayName;
+
+    RoleEnum(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
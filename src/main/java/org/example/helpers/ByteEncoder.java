@@ -0,0 +1,127 @@
+package org.example.helpers;
+
+import java.math.BigDecimal;
+
+/**
+ * Utility class encoding text and decimals directly into byte arrays, without intermediate
+ * strings.
+ *
+ * <p>Every method writes at a given position of the target array and returns the position after
+ * the written bytes. The caller is responsible for the capacity of the array: a string needs at
+ * most {@link #MAX_BYTES_PER_CHAR} bytes per {@code char} and a decimal accepted by
+ * {@link #isFastDecimal(BigDecimal)} at most {@link #MAX_DECIMAL_LENGTH} bytes.</p>
+ */
+public class ByteEncoder {
+    /**
+     * The maximum number of UTF-8 bytes produced per {@code char} of a string.
+     */
+    public static final int MAX_BYTES_PER_CHAR = 3;
+    /**
+     * The maximum number of bytes of a decimal rendered by the fast path: 18 digits, a leading
+     * zero, a decimal point and a sign.
+     */
+    public static final int MAX_DECIMAL_LENGTH = 21;
+
+    private static final int MAX_FAST_PRECISION = 18;
+
+    /**
+     * Encodes a string to UTF-8. Unpaired surrogates are encoded as {@code '?'}, like
+     * {@link String#getBytes(java.nio.charset.Charset)} does.
+     *
+     * @param value    the string to encode.
+     * @param target   the array to write to.
+     * @param position the position of the first byte to write.
+     * @return the position after the last written byte.
+     */
+    public static int putUtf8(String value, byte[] target, int position) {
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c < 0x80) {
+                target[position++] = (byte) c;
+            } else if (c < 0x800) {
+                target[position++] = (byte) (0xC0 | (c >> 6));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target[position++] = (byte) (0xF0 | (codePoint >> 18));
+                target[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                target[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                target[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                target[position++] = (byte) '?';
+            } else {
+                target[position++] = (byte) (0xE0 | (c >> 12));
+                target[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns whether a decimal can be rendered by {@link #putDecimal(BigDecimal, byte[], int)}.
+     * Other values must be rendered from {@link BigDecimal#toPlainString()}.
+     *
+     * @param value the value to check.
+     * @return {@code true} if the unscaled value fits the fixed-point fast path.
+     */
+    public static boolean isFastDecimal(BigDecimal value) {
+        var scale = value.scale();
+        return scale >= 0 && scale <= MAX_FAST_PRECISION && value.precision() <= MAX_FAST_PRECISION;
+    }
+
+    /**
+     * Renders the plain representation of a decimal with a fixed-point formatter working on its
+     * unscaled value.
+     *
+     * @param value    the value to render; must be accepted by {@link #isFastDecimal(BigDecimal)}.
+     * @param target   the array to write to.
+     * @param position the position of the first byte to write.
+     * @return the position after the last written byte.
+     */
+    public static int putDecimal(BigDecimal value, byte[] target, int position) {
+        return putDecimal(value.unscaledValue().longValue(), value.scale(), target, position);
+    }
+
+    /**
+     * Renders an integer.
+     *
+     * @param value    the value to render.
+     * @param target   the array to write to.
+     * @param position the position of the first byte to write.
+     * @return the position after the last written byte.
+     */
+    public static int putLong(long value, byte[] target, int position) {
+        if (value == Long.MIN_VALUE) return putUtf8(Long.toString(value), target, position);
+        return putDecimal(value, 0, target, position);
+    }
+
+    private static int putDecimal(long unscaled, int scale, byte[] target, int position) {
+        var negative = unscaled < 0;
+        if (negative) unscaled = -unscaled;
+
+        var digitCount = Math.max(countDigits(unscaled), scale + 1);
+        var end = position + digitCount + (scale > 0 ? 1 : 0) + (negative ? 1 : 0);
+
+        // Digits are produced from the least significant one, right to left.
+        var index = end;
+        for (int produced = 0; produced < digitCount; produced++) {
+            if (produced == scale && scale > 0) target[--index] = '.';
+            target[--index] = (byte) ('0' + unscaled % 10);
+            unscaled /= 10;
+        }
+        if (negative) target[--index] = '-';
+        return end;
+    }
+
+    private static int countDigits(long value) {
+        var result = 1;
+        while (value >= 10) {
+            value /= 10;
+            result++;
+        }
+        return result;
+    }
+}
@@ -165,4 +165,16 @@ public class ValueChecker {
         if (monthIndex < 0 || monthIndex > MONTH_COUNT)
             throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_MONTH_INDEX.getString());
     }
+
+    /**
+     * Checks whether the given value is strictly positive.
+     *
+     * @param value        The value to be checked.
+     * @param errorMessage The error message to be used if the value is not positive.
+     * @throws IllegalArgumentException If the value is less than or equal to 0.
+     */
+    public static void checkPositive(int value, ErrorMessagesEnum errorMessage) {
+        if (value <= 0)
+            throw new IllegalArgumentException(errorMessage.getString());
+    }
 }
@@ -0,0 +1,82 @@
+package org.example.history;
+
+import org.example.MonthUtils;
+import org.example.enums.ErrorMessagesEnum;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Utility class for computing the back pay of a workforce after retroactive wage changes.
+ */
+public class BackPayUtils {
+    /**
+     * Returns the back pay of every employee over an inclusive range of already paid periods.
+     * Each employee is processed in a single pass over the change points of its two histories,
+     * without recomputing the payroll of each period. The number of subordinates of a manager is
+     * taken from the histories, so retroactive changes of the team size are paid as well.
+     *
+     * @param paid       the histories the range was paid with, one per employee; must not be
+     *                   null.
+     * @param current    the histories including the retroactive changes, in the order of the
+     *                   paid histories; must not be null.
+     * @param fromPeriod the first paid period affected by the changes.
+     * @param toPeriod   the last paid period.
+     * @param calendar   the calendar providing the working days; must not be null.
+     * @return the back pay of each employee, in the order of the histories, rounded to two
+     * decimal places using rounding mode {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException if any of the collections is null, holds null values or
+     *                                  the sizes of the collections differ.
+     */
+    public static BigDecimal[] getBackPay(
+            WageHistory[] paid,
+            WageHistory[] current,
+            int fromPeriod,
+            int toPeriod,
+            MonthUtils calendar) {
+
+        if (paid == null || current == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.WAGE_HISTORY_NULL.getString());
+        if (paid.length != current.length)
+            throw new IllegalArgumentException(
+                    ErrorMessagesEnum.WAGE_HISTORY_SIZE_MISMATCH.getString());
+
+        var result = new BigDecimal[current.length];
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == null)
+                throw new IllegalArgumentException(
+                        ErrorMessagesEnum.WAGE_HISTORY_NULL.getString());
+            result[i] = current[i].getBackPay(paid[i], fromPeriod, toPeriod, calendar);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the total back pay of the workforce over an inclusive range of already paid periods.
+     *
+     * @param paid       the histories the range was paid with, one per employee; must not be
+     *                   null.
+     * @param current    the histories including the retroactive changes, in the order of the
+     *                   paid histories; must not be null.
+     * @param fromPeriod the first paid period affected by the changes.
+     * @param toPeriod   the last paid period.
+     * @param calendar   the calendar providing the working days; must not be null.
+     * @return the sum of the back pay of all the employees, rounded to two decimal places using
+     * rounding mode {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException if any of the collections is null, holds null values or
+     *                                  the sizes of the collections differ.
+     * @see #getBackPay(WageHistory[], WageHistory[], int, int, MonthUtils)
+     */
+    public static BigDecimal getTotalBackPay(
+            WageHistory[] paid,
+            WageHistory[] current,
+            int fromPeriod,
+            int toPeriod,
+            MonthUtils calendar) {
+
+        var result = BigDecimal.ZERO;
+        for (var backPay : getBackPay(paid, current, fromPeriod, toPeriod, calendar))
+            result = result.add(backPay);
+        return result;
+    }
+}
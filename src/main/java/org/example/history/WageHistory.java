@@ -0,0 +1,325 @@
+package org.example.history;
+
+import org.example.Employee;
+import org.example.Manager;
+import org.example.MonthUtils;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.helpers.ValueChecker;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * An effective-dated history of the daily wage, the salary supplement percent and the number of
+ * subordinates of an employee.
+ *
+ * <p>The history is stored as sorted parallel arrays of change points: the values recorded at
+ * a change point apply from its period up to the period before the next change point. The
+ * first change point covers every period before the others, so the history always defines
+ * a wage. Periods are the indexes returned by {@link MonthUtils#getPeriod(int, int)}.</p>
+ *
+ * <p>The history is not updated by the setters of {@link Employee} and {@link Manager}: a change
+ * made to an employee is recorded with {@link #recordChange(int, Employee)}, or value by value
+ * with the setters of the history.</p>
+ *
+ * <p>Salaries are computed by splitting the requested range at the change points, so the cost
+ * depends on the number of changes within the range and not on its length.</p>
+ */
+public class WageHistory {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] periods;
+    private BigDecimal[] wages;
+    private int[] supplementPercents;
+    private int[] subordinateNumbers;
+    private int size;
+
+    /**
+     * Constructs a new {@code WageHistory} with a single wage and supplement percent applying to
+     * every period, without subordinates.
+     *
+     * @param wage              the daily wage; must not be negative.
+     * @param supplementPercent the salary supplement percent per subordinate.
+     * @throws IllegalArgumentException if the wage or the supplement percent is negative.
+     */
+    public WageHistory(BigDecimal wage, int supplementPercent) {
+        this(wage, supplementPercent, 0);
+    }
+
+    /**
+     * Constructs a new {@code WageHistory} with a single wage, supplement percent and number of
+     * subordinates applying to every period.
+     *
+     * @param wage              the daily wage; must not be negative.
+     * @param supplementPercent the salary supplement percent per subordinate.
+     * @param subordinateNumber the number of subordinates the supplement is paid for.
+     * @throws IllegalArgumentException if the wage, the supplement percent or the number of
+     *                                  subordinates is negative.
+     */
+    public WageHistory(BigDecimal wage, int supplementPercent, int subordinateNumber) {
+        ValueChecker.checkSalary(wage);
+        ValueChecker.checkManagerData(subordinateNumber, supplementPercent);
+        periods = new int[INITIAL_CAPACITY];
+        wages = new BigDecimal[INITIAL_CAPACITY];
+        supplementPercents = new int[INITIAL_CAPACITY];
+        subordinateNumbers = new int[INITIAL_CAPACITY];
+        periods[0] = Integer.MIN_VALUE;
+        wages[0] = wage;
+        supplementPercents[0] = supplementPercent;
+        subordinateNumbers[0] = subordinateNumber;
+        size = 1;
+    }
+
+    /**
+     * Creates a history holding the current wage and, for managers, the current supplement
+     * percent and number of subordinates of the given employee.
+     *
+     * @param employee the employee; must not be null.
+     * @return a new {@code WageHistory} without change points.
+     * @throws IllegalArgumentException if the employee is null.
+     */
+    public static WageHistory of(Employee employee) {
+        ValueChecker.checkEmployee(employee);
+        if (!(employee instanceof Manager)) return new WageHistory(employee.getWage(), 0);
+
+        var manager = (Manager) employee;
+        return new WageHistory(
+                manager.getWage(),
+                manager.getSalarySupplementPercent(),
+                manager.getSubordinateNumber());
+    }
+
+    /**
+     * Returns an independent copy of this history, typically kept as the state a past payroll
+     * was paid with before recording retroactive changes.
+     *
+     * @return a copy of this history.
+     */
+    public WageHistory copy() {
+        var result = new WageHistory(wages[0], supplementPercents[0], subordinateNumbers[0]);
+        result.periods = Arrays.copyOf(periods, periods.length);
+        result.wages = Arrays.copyOf(wages, wages.length);
+        result.supplementPercents = Arrays.copyOf(supplementPercents, supplementPercents.length);
+        result.subordinateNumbers = Arrays.copyOf(subordinateNumbers, subordinateNumbers.length);
+        result.size = size;
+        return result;
+    }
+
+    /**
+     * Records the current wage and, for managers, the current supplement percent and number of
+     * subordinates of the given employee, effective from the given period. This is typically
+     * called after changing the employee, with the period the change takes effect.
+     *
+     * @param fromPeriod the first period the values apply to.
+     * @param employee   the employee; must not be null.
+     * @return the current {@code WageHistory} instance for method chaining.
+     * @throws IllegalArgumentException if the employee is null.
+     */
+    public WageHistory recordChange(int fromPeriod, Employee employee) {
+        var state = of(employee);
+        var changePoint = getChangePoint(fromPeriod);
+        wages[changePoint] = state.wages[0];
+        supplementPercents[changePoint] = state.supplementPercents[0];
+        subordinateNumbers[changePoint] = state.subordinateNumbers[0];
+        return this;
+    }
+
+    /**
+     * Records a wage effective from the given period. The wage applies up to the next recorded
+     * change point, if any.
+     *
+     * @param fromPeriod the first period the wage applies to.
+     * @param wage       the daily wage; must not be negative.
+     * @return the current {@code WageHistory} instance for method chaining.
+     * @throws IllegalArgumentException if the wage is negative.
+     */
+    public WageHistory setWage(int fromPeriod, BigDecimal wage) {
+        ValueChecker.checkSalary(wage);
+        wages[getChangePoint(fromPeriod)] = wage;
+        return this;
+    }
+
+    /**
+     * Records a salary supplement percent effective from the given period. The percent applies up
+     * to the next recorded change point, if any.
+     *
+     * @param fromPeriod        the first period the percent applies to.
+     * @param supplementPercent the salary supplement percent per subordinate.
+     * @return the current {@code WageHistory} instance for method chaining.
+     * @throws IllegalArgumentException if the percent is negative.
+     */
+    public WageHistory setSupplementPercent(int fromPeriod, int supplementPercent) {
+        ValueChecker.checkManagerData(0, supplementPercent);
+        supplementPercents[getChangePoint(fromPeriod)] = supplementPercent;
+        return this;
+    }
+
+    /**
+     * Records a number of subordinates effective from the given period. The number applies up to
+     * the next recorded change point, if any.
+     *
+     * @param fromPeriod        the first period the number applies to.
+     * @param subordinateNumber the number of subordinates the supplement is paid for.
+     * @return the current {@code WageHistory} instance for method chaining.
+     * @throws IllegalArgumentException if the number is negative.
+     */
+    public WageHistory setSubordinateNumber(int fromPeriod, int subordinateNumber) {
+        ValueChecker.checkManagerData(subordinateNumber, 0);
+        subordinateNumbers[getChangePoint(fromPeriod)] = subordinateNumber;
+        return this;
+    }
+
+    public BigDecimal getWage(int period) {
+        return wages[findSegment(period)];
+    }
+
+    public int getSupplementPercent(int period) {
+        return supplementPercents[findSegment(period)];
+    }
+
+    public int getSubordinateNumber(int period) {
+        return subordinateNumbers[findSegment(period)];
+    }
+
+    /**
+     * Returns the number of change points recorded after the initial state.
+     *
+     * @return the number of recorded changes.
+     */
+    public int getChangeCount() {
+        return size - 1;
+    }
+
+    /**
+     * Calculates the salary over an inclusive range of periods, applying to every period the
+     * wage, supplement percent and number of subordinates in effect at that period.
+     *
+     * @param fromPeriod the first period of the range.
+     * @param toPeriod   the last period of the range.
+     * @param calendar   the calendar providing the working days; must not be null.
+     * @return the salary rounded to two decimal places using rounding mode
+     * {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException if the range is empty or the calendar is null.
+     */
+    public BigDecimal getSalary(int fromPeriod, int toPeriod, MonthUtils calendar) {
+        return difference(this, null, fromPeriod, toPeriod, calendar);
+    }
+
+    /**
+     * Calculates the back pay owed over an inclusive range of periods: the difference between
+     * the salary computed from this history and the salary computed from the history the range
+     * was paid with. Both histories are walked once, in a single merge of their change points.
+     *
+     * @param paid       the history the range was paid with; must not be null.
+     * @param fromPeriod the first period of the range.
+     * @param toPeriod   the last period of the range.
+     * @param calendar   the calendar providing the working days; must not be null.
+     * @return the back pay, negative if the range was overpaid, rounded to two decimal places
+     * using rounding mode {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException if the paid history or the calendar is null, or the range
+     *                                  is empty.
+     */
+    public BigDecimal getBackPay(
+            WageHistory paid,
+            int fromPeriod,
+            int toPeriod,
+            MonthUtils calendar) {
+
+        if (paid == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.WAGE_HISTORY_NULL.getString());
+        return difference(this, paid, fromPeriod, toPeriod, calendar);
+    }
+
+    private static BigDecimal difference(
+            WageHistory current,
+            WageHistory paid,
+            int fromPeriod,
+            int toPeriod,
+            MonthUtils calendar) {
+
+        if (toPeriod < fromPeriod)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_PERIOD_RANGE.getString());
+        if (calendar == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.MONTHUTILS_NULL.getString());
+
+        var result = BigDecimal.ZERO;
+        var currentSegment = current.findSegment(fromPeriod);
+        var paidSegment = paid == null ? 0 : paid.findSegment(fromPeriod);
+        long start = fromPeriod;
+
+        while (start <= toPeriod) {
+            var end = Math.min(current.getSegmentEnd(currentSegment), toPeriod);
+            if (paid != null) end = Math.min(end, paid.getSegmentEnd(paidSegment));
+
+            var days = calendar.getWorkDays((int) start, (int) end);
+            var amount = current.getDailyAmount(currentSegment);
+            if (paid != null) amount = amount.subtract(paid.getDailyAmount(paidSegment));
+            result = result.add(amount.multiply(BigDecimal.valueOf(days)));
+
+            start = end + 1;
+            if (current.getSegmentEnd(currentSegment) < start) currentSegment++;
+            if (paid != null && paid.getSegmentEnd(paidSegment) < start) paidSegment++;
+        }
+
+        return result.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Returns the daily amount of a segment: the wage plus the supplement for the subordinates,
+     * as computed by {@link Manager#addSupplement(BigDecimal, int, int)}.
+     */
+    private BigDecimal getDailyAmount(int segment) {
+        return Manager.addSupplement(
+                wages[segment],
+                subordinateNumbers[segment],
+                supplementPercents[segment]);
+    }
+
+    private long getSegmentEnd(int segment) {
+        return segment + 1 < size ? (long) periods[segment + 1] - 1 : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the index of the segment containing the given period.
+     */
+    private int findSegment(int period) {
+        var index = Arrays.binarySearch(periods, 0, size, period);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Returns the index of the change point starting at the given period, inserting it with the
+     * values in effect at that period if it does not exist yet.
+     */
+    private int getChangePoint(int period) {
+        var index = Arrays.binarySearch(periods, 0, size, period);
+        if (index >= 0) return index;
+
+        var insertion = -index - 1;
+        if (size == periods.length) {
+            var capacity = size * 2;
+            periods = Arrays.copyOf(periods, capacity);
+            wages = Arrays.copyOf(wages, capacity);
+            supplementPercents = Arrays.copyOf(supplementPercents, capacity);
+            subordinateNumbers = Arrays.copyOf(subordinateNumbers, capacity);
+        }
+        System.arraycopy(periods, insertion, periods, insertion + 1, size - insertion);
+        System.arraycopy(wages, insertion, wages, insertion + 1, size - insertion);
+        System.arraycopy(
+                supplementPercents, insertion,
+                supplementPercents, insertion + 1,
+                size - insertion);
+        System.arraycopy(
+                subordinateNumbers, insertion,
+                subordinateNumbers, insertion + 1,
+                size - insertion);
+
+        periods[insertion] = period;
+        wages[insertion] = wages[insertion - 1];
+        supplementPercents[insertion] = supplementPercents[insertion - 1];
+        subordinateNumbers[insertion] = subordinateNumbers[insertion - 1];
+        size++;
+        return insertion;
+    }
+}
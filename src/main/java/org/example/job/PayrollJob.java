@@ -0,0 +1,75 @@
+package org.example.job;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A handle to a payroll computation submitted to {@link PayrollJobService}.
+ * It gives access to the result, the progress of the computation and allows cancelling it.
+ * Cancelling a job that is already computing interrupts it; a job still waiting for a free slot
+ * of its tenant is never started.
+ */
+public class PayrollJob implements Future<BigDecimal> {
+    private final PayrollRequest request;
+    private final AtomicInteger processed;
+    private final FutureTask<BigDecimal> task;
+
+    PayrollJob(PayrollRequest request, AtomicInteger processed, FutureTask<BigDecimal> task) {
+        this.request = request;
+        this.processed = processed;
+        this.task = task;
+    }
+
+    public PayrollRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Returns the number of employees whose salary has already been computed.
+     *
+     * @return the number of processed employees.
+     */
+    public int getProcessedCount() {
+        return processed.get();
+    }
+
+    /**
+     * Returns the progress of the job.
+     *
+     * @return the share of processed employees, from {@code 0.0} to {@code 1.0}.
+     */
+    public double getProgress() {
+        return (double) processed.get() / request.getEmployeeCount();
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return task.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return task.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+        return task.isDone();
+    }
+
+    @Override
+    public BigDecimal get() throws InterruptedException, ExecutionException {
+        return task.get();
+    }
+
+    @Override
+    public BigDecimal get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return task.get(timeout, unit);
+    }
+}
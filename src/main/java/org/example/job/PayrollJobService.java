@@ -0,0 +1,216 @@
+package org.example.job;
+
+import org.example.MonthUtils;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.helpers.ValueChecker;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An in-process service running independent payroll computations concurrently.
+ *
+ * <p>The number of jobs computing at the same time is bounded per tenant. Extra jobs of a busy
+ * tenant wait in a queue of that tenant and are handed to the executor only when a slot is free,
+ * so a waiting job holds no thread and does not block the jobs of other tenants. The number of
+ * threads in use is therefore bounded by the number of busy tenants times the per-tenant
+ * limit. The queue of a tenant is dropped as soon as it has no job left, so tenants submitting
+ * only occasionally do not accumulate.</p>
+ *
+ * <p>Jobs run on virtual threads when the runtime provides them (Java 21 and later), and on a
+ * cached pool of daemon platform threads otherwise. All the jobs share a single immutable
+ * {@link MonthUtils} calendar, available through {@link #getCalendar()}.</p>
+ */
+public class PayrollJobService implements AutoCloseable {
+    private final MonthUtils calendar = new MonthUtils();
+    private final Map<String, TenantQueue> tenantQueues = new ConcurrentHashMap<>();
+    private final ExecutorService executor = newExecutor();
+    private final int concurrentJobsPerTenant;
+
+    /**
+     * Constructs a new {@code PayrollJobService}.
+     *
+     * @param concurrentJobsPerTenant the maximum number of jobs of one tenant computing at the
+     *                                same time; must be greater than 0.
+     * @throws IllegalArgumentException if the number of jobs is less than 1.
+     */
+    public PayrollJobService(int concurrentJobsPerTenant) {
+        ValueChecker.checkPositive(
+                concurrentJobsPerTenant,
+                ErrorMessagesEnum.INVALID_TENANT_CONCURRENCY);
+        this.concurrentJobsPerTenant = concurrentJobsPerTenant;
+    }
+
+    /**
+     * Returns the calendar shared by all the jobs of this service. Months taken from it can be
+     * used in any number of requests.
+     *
+     * @return the shared {@link MonthUtils} instance.
+     */
+    public MonthUtils getCalendar() {
+        return calendar;
+    }
+
+    /**
+     * Submits a payroll request for asynchronous computation.
+     *
+     * @param request the request to compute; must not be null.
+     * @return a {@link PayrollJob} giving access to the total salary of the request, rounded to
+     * two decimal places using rounding mode {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException if the request is null.
+     * @throws RejectedExecutionException if the service is closed.
+     */
+    public PayrollJob submit(PayrollRequest request) {
+        if (request == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.PAYROLL_REQUEST_NULL.getString());
+        if (executor.isShutdown())
+            throw new RejectedExecutionException(ErrorMessagesEnum.SERVICE_CLOSED.getString());
+
+        var processed = new AtomicInteger();
+        var task = new FutureTask<>(() -> run(request, processed));
+        while (true) {
+            var queue = tenantQueues.computeIfAbsent(request.getTenant(), TenantQueue::new);
+            if (queue.submit(task)) break;
+        }
+        return new PayrollJob(request, processed, task);
+    }
+
+    /**
+     * Stops accepting new requests and cancels the jobs that are still waiting or running.
+     * Running jobs are interrupted; all the cancelled jobs report {@link PayrollJob#isCancelled()}.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        for (var queue : tenantQueues.values())
+            queue.cancelAll();
+    }
+
+    private static BigDecimal run(PayrollRequest request, AtomicInteger processed) {
+        var months = request.getMonthArray();
+        var result = BigDecimal.ZERO;
+        for (int i = 0; i < request.getEmployeeCount(); i++) {
+            if (Thread.currentThread().isInterrupted()) throw new CancellationException();
+            result = result.add(request.getEmployee(i).getSalary(months));
+            processed.incrementAndGet();
+        }
+        return result.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The jobs of one tenant: the jobs holding a slot and the jobs waiting for one, in submission
+     * order. A job releases its slot when it completes, handing it to the next waiting job.
+     * Cancelled waiting jobs stay queued and complete immediately when their turn comes.
+     *
+     * <p>When the last job releases its slot, the queue is retired and removed from the service;
+     * a job submitted to a retired queue is submitted again to a new queue of the tenant.</p>
+     */
+    private class TenantQueue {
+        private final String tenant;
+        private final Set<FutureTask<BigDecimal>> running = new HashSet<>();
+        private final ArrayDeque<FutureTask<BigDecimal>> waiting = new ArrayDeque<>();
+        private boolean retired;
+
+        TenantQueue(String tenant) {
+            this.tenant = tenant;
+        }
+
+        /**
+         * Submits a job to this queue.
+         *
+         * @return {@code false} if the queue is retired and the job was not accepted.
+         */
+        boolean submit(FutureTask<BigDecimal> task) {
+            synchronized (this) {
+                if (retired) return false;
+                if (running.size() == concurrentJobsPerTenant) {
+                    waiting.add(task);
+                    return true;
+                }
+                running.add(task);
+            }
+            dispatch(task);
+            return true;
+        }
+
+        void cancelAll() {
+            synchronized (this) {
+                for (var task : running)
+                    task.cancel(true);
+                cancelWaiting();
+            }
+        }
+
+        private void cancelWaiting() {
+            synchronized (this) {
+                for (var task : waiting)
+                    task.cancel(false);
+                waiting.clear();
+            }
+        }
+
+        private void dispatch(FutureTask<BigDecimal> task) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        release(task);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The service was closed in the meantime.
+                task.cancel(false);
+                cancelWaiting();
+                release(task);
+            }
+        }
+
+        private void release(FutureTask<BigDecimal> task) {
+            FutureTask<BigDecimal> next;
+            synchronized (this) {
+                running.remove(task);
+                next = waiting.poll();
+                if (next == null) {
+                    if (running.isEmpty()) {
+                        retired = true;
+                        tenantQueues.remove(tenant, this);
+                    }
+                    return;
+                }
+                running.add(next);
+            }
+            dispatch(next);
+        }
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor when the runtime supports it (Java 21 and
+     * later), or a cached pool of daemon threads otherwise.
+     *
+     * @return the executor the jobs are run on.
+     */
+    private static ExecutorService newExecutor() {
+        try {
+            var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                var thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
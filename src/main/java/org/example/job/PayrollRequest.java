@@ -0,0 +1,59 @@
+package org.example.job;
+
+import org.example.Employee;
+import org.example.Month;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.helpers.ValueChecker;
+
+/**
+ * Represents a request to compute the total payroll of a set of employees over a range of months
+ * on behalf of a tenant (a department, a scenario or any other isolation unit).
+ */
+public class PayrollRequest {
+    private final String tenant;
+    private final Employee[] employees;
+    private final Month[] months;
+
+    /**
+     * Constructs a new {@code PayrollRequest}.
+     *
+     * @param tenant    the tenant the request belongs to; must not be null or empty.
+     * @param employees the employees to compute the payroll for; must not be null or empty.
+     * @param months    the months to compute the payroll for; must not be null or empty.
+     * @throws IllegalArgumentException if the tenant is empty or any of the collections is null
+     *                                  or empty.
+     */
+    public PayrollRequest(String tenant, Employee[] employees, Month[] months) {
+        if (tenant == null || tenant.isEmpty())
+            throw new IllegalArgumentException(ErrorMessagesEnum.EMPTY_TENANT.getString());
+        ValueChecker.checkEmployeeCollection(employees);
+        ValueChecker.checkMonthCollection(months);
+        this.tenant = tenant;
+        this.employees = employees.clone();
+        this.months = months.clone();
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    public Employee[] getEmployees() {
+        return employees.clone();
+    }
+
+    public Month[] getMonths() {
+        return months.clone();
+    }
+
+    int getEmployeeCount() {
+        return employees.length;
+    }
+
+    Employee getEmployee(int index) {
+        return employees[index];
+    }
+
+    Month[] getMonthArray() {
+        return months;
+    }
+}
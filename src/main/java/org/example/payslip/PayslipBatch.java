@@ -0,0 +1,107 @@
+package org.example.payslip;
+
+import org.example.helpers.ByteEncoder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * A reusable buffer holding the rendered payslips of consecutive employees.
+ *
+ * <p>Batches are pooled by {@link PayslipGenerator}: the byte array grows to the size of the
+ * largest batch during the first batches of a run and is then reused, so rendering allocates no
+ * output buffers in the steady state.</p>
+ */
+class PayslipBatch {
+    private static final int INITIAL_CAPACITY = 256 * 1024;
+
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int[] documentEnds = new int[0];
+    private int length;
+    private int firstEmployee;
+    private int documentCount;
+
+    /**
+     * Clears the batch before rendering the payslips of a new range of employees.
+     */
+    void reset(int firstEmployee, int employeeCount) {
+        if (documentEnds.length < employeeCount) documentEnds = new int[employeeCount];
+        this.firstEmployee = firstEmployee;
+        this.documentCount = 0;
+        this.length = 0;
+    }
+
+    int getFirstEmployee() {
+        return firstEmployee;
+    }
+
+    int getDocumentCount() {
+        return documentCount;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    int getDocumentStart(int document) {
+        return document == 0 ? 0 : documentEnds[document - 1];
+    }
+
+    int getDocumentEnd(int document) {
+        return documentEnds[document];
+    }
+
+    /**
+     * Marks the end of the payslip rendered since the previous call.
+     */
+    void endDocument() {
+        documentEnds[documentCount++] = length;
+    }
+
+    /**
+     * Writes the whole batch to the channel.
+     */
+    void writeTo(WritableByteChannel channel) throws IOException {
+        var view = ByteBuffer.wrap(data, 0, length);
+        while (view.hasRemaining())
+            channel.write(view);
+    }
+
+    void put(byte value) {
+        ensureCapacity(1);
+        data[length++] = value;
+    }
+
+    void put(byte[] values) {
+        ensureCapacity(values.length);
+        System.arraycopy(values, 0, data, length, values.length);
+        length += values.length;
+    }
+
+    void putString(String value) {
+        ensureCapacity(value.length() * ByteEncoder.MAX_BYTES_PER_CHAR);
+        length = ByteEncoder.putUtf8(value, data, length);
+    }
+
+    void putInt(long value) {
+        ensureCapacity(ByteEncoder.MAX_DECIMAL_LENGTH);
+        length = ByteEncoder.putLong(value, data, length);
+    }
+
+    void putDecimal(BigDecimal value) {
+        if (!ByteEncoder.isFastDecimal(value)) {
+            putString(value.toPlainString());
+            return;
+        }
+        ensureCapacity(ByteEncoder.MAX_DECIMAL_LENGTH);
+        length = ByteEncoder.putDecimal(value, data, length);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (data.length - length >= extra) return;
+        data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+    }
+}
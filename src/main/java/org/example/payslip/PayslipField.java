@@ -0,0 +1,63 @@
+package org.example.payslip;
+
+/**
+ * Enum representing the fields a {@link PayslipTemplate} can refer to. In a template, a field is
+ * written as its placeholder, for instance {@code ${name}}.
+ */
+public enum PayslipField {
+    /**
+     * The name of the employee.
+     */
+    NAME("name"),
+    /**
+     * The display name of the role of the employee.
+     */
+    ROLE("role"),
+    /**
+     * The daily wage of the employee.
+     */
+    DAY_RATE("dayRate"),
+    /**
+     * The name of the month; only available in the month line.
+     */
+    MONTH("month"),
+    /**
+     * The number of working days of the month; only available in the month line.
+     */
+    WORK_DAYS("workDays"),
+    /**
+     * The daily wage multiplied by the working days of the month; only available in the month
+     * line.
+     */
+    MONTH_AMOUNT("monthAmount"),
+    /**
+     * The salary without the manager supplement.
+     */
+    NORMAL_SALARY("normalSalary"),
+    /**
+     * The number of subordinates, 0 for employees who are not managers.
+     */
+    SUBORDINATES("subordinates"),
+    /**
+     * The salary supplement percent per subordinate, 0 for employees who are not managers.
+     */
+    SUPPLEMENT_PERCENT("supplementPercent"),
+    /**
+     * The manager supplement: the salary minus the normal salary.
+     */
+    SUPPLEMENT("supplement"),
+    /**
+     * The salary, as returned by {@link org.example.Employee#getSalary(org.example.Month[])}.
+     */
+    SALARY("salary");
+
+    private final String placeholder;
+
+    PayslipField(String placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    public String getPlaceholder() {
+        return placeholder;
+    }
+}
@@ -0,0 +1,237 @@
+package org.example.payslip;
+
+import org.example.Employee;
+import org.example.Month;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.helpers.ValueChecker;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Generates the payslips of a workforce into a rolling set of files, together with a
+ * {@link PayslipIndex} for random retrieval.
+ *
+ * <p>Employees are split into batches rendered in parallel on the configured executor; every
+ * rendering thread uses its own {@link PayslipRenderer} and every batch is rendered into a
+ * pooled buffer, so the run allocates no output buffers once the pool is warm. The calling
+ * thread writes the batches in the order of the employees, each with a single sequential write,
+ * and moves to a new file when the current one would exceed the maximum file size. At most
+ * twice the parallelism level of batches are in flight, which bounds the memory used by the
+ * run.</p>
+ *
+ * <p>The files are named {@code payslips-00000.txt}, {@code payslips-00001.txt}, etc., and the
+ * index is written to {@code payslips.idx} in the same directory. The generator is not
+ * thread-safe.</p>
+ */
+public class PayslipGenerator {
+    /**
+     * The name of the index file written to the output directory.
+     */
+    public static final String INDEX_FILE_NAME = "payslips.idx";
+
+    private static final String FILE_NAME_PATTERN = "payslips-%05d.txt";
+
+    private final Path directory;
+    private final ThreadLocal<PayslipRenderer> renderers;
+    private int batchSize = 1024;
+    private long maxFileSize = 256L * 1024 * 1024;
+    private Executor executor = Runnable::run;
+    private int parallelism = 1;
+
+    /**
+     * Constructs a new {@code PayslipGenerator}.
+     *
+     * @param directory the directory the payslip files are written to; must not be null. It is
+     *                  created if it does not exist.
+     * @param template  the template of the payslips; must not be null.
+     * @throws IllegalArgumentException if the directory or the template is null.
+     */
+    public PayslipGenerator(Path directory, PayslipTemplate template) {
+        if (directory == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.DIRECTORY_NULL.getString());
+        if (template == null)
+            throw new IllegalArgumentException(
+                    ErrorMessagesEnum.PAYSLIP_TEMPLATE_NULL.getString());
+        this.directory = directory.toAbsolutePath();
+        this.renderers = ThreadLocal.withInitial(() -> new PayslipRenderer(template));
+    }
+
+    /**
+     * Sets the number of payslips rendered into one buffer and written with one write.
+     *
+     * @param value the batch size; must be greater than 0.
+     * @return the current {@code PayslipGenerator} instance for method chaining.
+     * @throws IllegalArgumentException if the value is less than 1.
+     */
+    public PayslipGenerator setBatchSize(int value) {
+        ValueChecker.checkPositive(value, ErrorMessagesEnum.INVALID_BATCH_SIZE);
+        this.batchSize = value;
+        return this;
+    }
+
+    /**
+     * Sets the size after which a new payslip file is started. A batch is never split between
+     * two files, so a file may exceed this size by less than one batch.
+     *
+     * @param value the maximum file size in bytes; must be greater than 0.
+     * @return the current {@code PayslipGenerator} instance for method chaining.
+     * @throws IllegalArgumentException if the value is less than 1.
+     */
+    public PayslipGenerator setMaxFileSize(long value) {
+        if (value <= 0)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_FILE_SIZE.getString());
+        this.maxFileSize = value;
+        return this;
+    }
+
+    /**
+     * Sets the executor rendering the batches. By default batches are rendered on the calling
+     * thread.
+     *
+     * @param value            the executor; must not be null.
+     * @param parallelismLevel the maximum number of batches rendered concurrently; must be
+     *                         greater than 0.
+     * @return the current {@code PayslipGenerator} instance for method chaining.
+     * @throws IllegalArgumentException if the executor is null or the parallelism level is less
+     *                                  than 1.
+     */
+    public PayslipGenerator setExecutor(Executor value, int parallelismLevel) {
+        if (value == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.EXECUTOR_NULL.getString());
+        ValueChecker.checkPositive(parallelismLevel, ErrorMessagesEnum.INVALID_PARALLELISM);
+        this.executor = value;
+        this.parallelism = parallelismLevel;
+        return this;
+    }
+
+    /**
+     * Generates the payslips of the employees for the given months, overwriting the payslip files
+     * and the index of a previous run in the same directory.
+     *
+     * @param employees the employees; must not be null or empty. The id of every employee in the
+     *                  index is its position in the array.
+     * @param months    the months the payslips are generated for; must not be null or empty.
+     * @return the index of the generated payslips, also written to {@value #INDEX_FILE_NAME}.
+     * @throws IllegalArgumentException if any of the collections is null or empty.
+     * @throws IOException              if a payslip file cannot be written.
+     */
+    public PayslipIndex generate(Employee[] employees, Month[] months) throws IOException {
+        ValueChecker.checkMonthCollection(months);
+        ValueChecker.checkEmployeeCollection(employees);
+        Files.createDirectories(directory);
+
+        var workDays = 0L;
+        for (var month : months)
+            workDays += month.getWorkDays();
+        var totalWorkDays = workDays;
+        var monthArray = months.clone();
+
+        var fileNumbers = new int[employees.length];
+        var offsets = new long[employees.length];
+        var lengths = new int[employees.length];
+        var fileNames = new ArrayList<String>();
+
+        var batchCount = (employees.length + batchSize - 1) / batchSize;
+        var window = parallelism * 2;
+        var pool = new ArrayDeque<PayslipBatch>(window);
+        var pending = new ArrayDeque<CompletableFuture<PayslipBatch>>(window);
+        var nextBatch = 0;
+
+        FileChannel channel = null;
+        long fileSize = 0;
+        try {
+            while (nextBatch < batchCount || !pending.isEmpty()) {
+                while (nextBatch < batchCount && pending.size() < window) {
+                    var batch = pool.isEmpty() ? new PayslipBatch() : pool.poll();
+                    var from = nextBatch * batchSize;
+                    var to = Math.min(from + batchSize, employees.length);
+                    pending.add(CompletableFuture.supplyAsync(
+                            () -> render(employees, from, to, monthArray, totalWorkDays, batch),
+                            executor));
+                    nextBatch++;
+                }
+
+                var batch = join(pending.poll());
+                var full = fileSize > 0 && fileSize + batch.getLength() > maxFileSize;
+                if (channel == null || full) {
+                    if (channel != null) channel.close();
+                    channel = openFile(fileNames);
+                    fileSize = 0;
+                }
+
+                var fileNumber = fileNames.size() - 1;
+                for (int i = 0; i < batch.getDocumentCount(); i++) {
+                    var id = batch.getFirstEmployee() + i;
+                    var start = batch.getDocumentStart(i);
+                    fileNumbers[id] = fileNumber;
+                    offsets[id] = fileSize + start;
+                    lengths[id] = batch.getDocumentEnd(i) - start;
+                }
+                batch.writeTo(channel);
+                fileSize += batch.getLength();
+                pool.add(batch);
+            }
+        } finally {
+            if (channel != null) channel.close();
+            // Let the batches still rendering after a failure complete before returning.
+            for (var future : pending)
+                future.exceptionally(e -> null).join();
+        }
+
+        var index = new PayslipIndex(
+                directory,
+                fileNames.toArray(new String[0]),
+                fileNumbers,
+                offsets,
+                lengths);
+        index.writeTo(directory.resolve(INDEX_FILE_NAME));
+        return index;
+    }
+
+    private PayslipBatch render(
+            Employee[] employees,
+            int from,
+            int to,
+            Month[] months,
+            long totalWorkDays,
+            PayslipBatch batch) {
+
+        var renderer = renderers.get();
+        batch.reset(from, to - from);
+        for (int i = from; i < to; i++) {
+            ValueChecker.checkEmployee(employees[i]);
+            renderer.render(employees[i], months, totalWorkDays, batch);
+        }
+        return batch;
+    }
+
+    private FileChannel openFile(List<String> fileNames) throws IOException {
+        var fileName = String.format(FILE_NAME_PATTERN, fileNames.size());
+        fileNames.add(fileName);
+        return FileChannel.open(
+                directory.resolve(fileName),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    private static PayslipBatch join(CompletableFuture<PayslipBatch> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw e;
+        }
+    }
+}
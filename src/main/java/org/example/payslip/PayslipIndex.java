@@ -0,0 +1,166 @@
+package org.example.payslip;
+
+import org.example.enums.ErrorMessagesEnum;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The offset index of a set of payslip files written by {@link PayslipGenerator}.
+ *
+ * <p>For every employee id, the index holds the number of the file containing the payslip, its
+ * offset in the file and its length in bytes, so a single payslip is read with one positional
+ * read. The file names are stored relative to the directory of the payslip files.</p>
+ */
+public class PayslipIndex {
+    private static final int MAGIC = 0x50534C49;
+    private static final int VERSION = 1;
+
+    private final Path directory;
+    private final String[] fileNames;
+    private final int[] fileNumbers;
+    private final long[] offsets;
+    private final int[] lengths;
+
+    PayslipIndex(
+            Path directory,
+            String[] fileNames,
+            int[] fileNumbers,
+            long[] offsets,
+            int[] lengths) {
+
+        this.directory = directory;
+        this.fileNames = fileNames;
+        this.fileNumbers = fileNumbers;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    /**
+     * Returns the number of payslips in the index.
+     *
+     * @return the number of employees.
+     */
+    public int size() {
+        return offsets.length;
+    }
+
+    public int getFileCount() {
+        return fileNames.length;
+    }
+
+    public Path getFile(int fileNumber) {
+        return directory.resolve(fileNames[fileNumber]);
+    }
+
+    /**
+     * Reads the payslip of an employee.
+     *
+     * @param employeeId the id of the employee: its position in the generated array.
+     * @return the encoded payslip.
+     * @throws IllegalArgumentException if the id is invalid.
+     * @throws IOException              if the payslip file cannot be read.
+     */
+    public byte[] readBytes(int employeeId) throws IOException {
+        if (employeeId < 0 || employeeId >= offsets.length)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_EMPLOYEE_ID.getString());
+
+        var result = new byte[lengths[employeeId]];
+        var view = ByteBuffer.wrap(result);
+        try (var channel = FileChannel.open(
+                getFile(fileNumbers[employeeId]),
+                StandardOpenOption.READ)) {
+            var position = offsets[employeeId];
+            while (view.hasRemaining()) {
+                var read = channel.read(view, position);
+                if (read < 0)
+                    throw new IllegalArgumentException(
+                            ErrorMessagesEnum.INVALID_PAYSLIP_INDEX.getString());
+                position += read;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the payslip of an employee as text.
+     *
+     * @param employeeId the id of the employee: its position in the generated array.
+     * @return the payslip.
+     * @throws IllegalArgumentException if the id is invalid.
+     * @throws IOException              if the payslip file cannot be read.
+     */
+    public String read(int employeeId) throws IOException {
+        return new String(readBytes(employeeId), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the index to a file, replacing its content.
+     *
+     * @param file the file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeTo(Path file) throws IOException {
+        try (var output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(fileNames.length);
+            for (var fileName : fileNames)
+                output.writeUTF(fileName);
+            output.writeInt(offsets.length);
+            for (int i = 0; i < offsets.length; i++) {
+                output.writeInt(fileNumbers[i]);
+                output.writeLong(offsets[i]);
+                output.writeInt(lengths[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo(Path)}. The payslip files are expected in the
+     * directory of the index file.
+     *
+     * @param file the file to read.
+     * @return the index.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file does not hold a valid index.
+     */
+    public static PayslipIndex readFrom(Path file) throws IOException {
+        try (var input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION)
+                throw new IllegalArgumentException(
+                        ErrorMessagesEnum.INVALID_PAYSLIP_INDEX.getString());
+
+            var fileNames = new String[input.readInt()];
+            for (int i = 0; i < fileNames.length; i++)
+                fileNames[i] = input.readUTF();
+
+            var size = input.readInt();
+            var fileNumbers = new int[size];
+            var offsets = new long[size];
+            var lengths = new int[size];
+            for (int i = 0; i < size; i++) {
+                fileNumbers[i] = input.readInt();
+                offsets[i] = input.readLong();
+                lengths[i] = input.readInt();
+                if (fileNumbers[i] < 0 || fileNumbers[i] >= fileNames.length)
+                    throw new IllegalArgumentException(
+                            ErrorMessagesEnum.INVALID_PAYSLIP_INDEX.getString());
+            }
+
+            var directory = file.toAbsolutePath().getParent();
+            return new PayslipIndex(directory, fileNames, fileNumbers, offsets, lengths);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.payslip;
+
+import org.example.Employee;
+import org.example.Manager;
+import org.example.Month;
+
+import java.math.BigDecimal;
+
+/**
+ * Renders payslips of a compiled {@link PayslipTemplate} into a {@link PayslipBatch}.
+ *
+ * <p>A renderer keeps the values of the payslip being rendered, so it must not be shared
+ * between threads: {@link PayslipGenerator} keeps one per rendering thread.</p>
+ */
+class PayslipRenderer {
+    private final PayslipTemplate template;
+
+    private Employee employee;
+    private Month month;
+    private BigDecimal normalSalary;
+    private BigDecimal salary;
+    private int subordinateNumber;
+    private int supplementPercent;
+
+    PayslipRenderer(PayslipTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * Renders the payslip of an employee and marks its end in the batch. The supplement is the
+     * difference between {@link Employee#getSalary(Month[])}, which applies the rounding of
+     * {@link Manager#getSalary(Month[])}, and the normal salary, so the breakdown always adds up
+     * to the salary.
+     */
+    void render(Employee source, Month[] months, long totalWorkDays, PayslipBatch batch) {
+        employee = source;
+        month = null;
+        normalSalary = source.getWage().multiply(BigDecimal.valueOf(totalWorkDays));
+        salary = source.getSalary(months);
+        if (source instanceof Manager) {
+            var manager = (Manager) source;
+            subordinateNumber = manager.getSubordinateNumber();
+            supplementPercent = manager.getSalarySupplementPercent();
+        } else {
+            subordinateNumber = 0;
+            supplementPercent = 0;
+        }
+
+        renderSection(template.getHeader(), batch);
+        for (var current : months) {
+            month = current;
+            renderSection(template.getMonthLine(), batch);
+        }
+        month = null;
+        renderSection(template.getFooter(), batch);
+        batch.endDocument();
+        employee = null;
+    }
+
+    private void renderSection(PayslipTemplate.Section section, PayslipBatch batch) {
+        var fieldCount = section.getFieldCount();
+        for (int i = 0; i < fieldCount; i++) {
+            batch.put(section.getLiteral(i));
+            renderField(section.getField(i), batch);
+        }
+        batch.put(section.getLiteral(fieldCount));
+    }
+
+    private void renderField(PayslipField field, PayslipBatch batch) {
+        switch (field) {
+            case NAME:
+                batch.putString(employee.getName());
+                break;
+            case ROLE:
+                batch.putString(employee.getRole().getDisplayName());
+                break;
+            case DAY_RATE:
+                batch.putDecimal(employee.getWage());
+                break;
+            case MONTH:
+                batch.putString(month.getName());
+                break;
+            case WORK_DAYS:
+                batch.putInt(month.getWorkDays());
+                break;
+            case MONTH_AMOUNT:
+                batch.putDecimal(employee.getWage().multiply(
+                        BigDecimal.valueOf(month.getWorkDays())));
+                break;
+            case NORMAL_SALARY:
+                batch.putDecimal(normalSalary);
+                break;
+            case SUBORDINATES:
+                batch.putInt(subordinateNumber);
+                break;
+            case SUPPLEMENT_PERCENT:
+                batch.putInt(supplementPercent);
+                break;
+            case SUPPLEMENT:
+                batch.putDecimal(salary.subtract(normalSalary));
+                break;
+            case SALARY:
+                batch.putDecimal(salary);
+                break;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.payslip;
+
+import org.example.enums.ErrorMessagesEnum;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * A payslip template, compiled once into UTF-8 literals and field references.
+ *
+ * <p>A payslip is made of a header, one month line per month and a footer. Each section is a
+ * text holding placeholders of the form {@code ${field}}, where {@code field} is the placeholder
+ * of a {@link PayslipField}. The template is parsed and encoded when it is constructed, so
+ * rendering a payslip only copies the literal bytes and renders the field values.</p>
+ *
+ * <p>Instances are immutable and can be shared between threads.</p>
+ */
+public class PayslipTemplate {
+    // Declared before DEFAULT, which is compiled during the class initialization.
+    private static final PayslipField[] MONTH_FIELDS = {
+            PayslipField.MONTH,
+            PayslipField.WORK_DAYS,
+            PayslipField.MONTH_AMOUNT
+    };
+
+    /**
+     * The default template: the name, role and day rate, the amount of every month and the
+     * supplement breakdown, followed by an empty line.
+     */
+    public static final PayslipTemplate DEFAULT = new PayslipTemplate(
+            "Payslip: ${name}\nRole: ${role}\nDay rate: ${dayRate}\n",
+            "  ${month}: ${workDays} days x ${dayRate} = ${monthAmount}\n",
+            "Normal salary: ${normalSalary}\n"
+                    + "Supplement: ${subordinates} x ${supplementPercent}% = ${supplement}\n"
+                    + "Salary: ${salary}\n\n");
+
+    private final Section header;
+    private final Section monthLine;
+    private final Section footer;
+
+    /**
+     * Constructs and compiles a new {@code PayslipTemplate}.
+     *
+     * @param header    the text rendered once at the start of the payslip; must not be null.
+     * @param monthLine the text rendered once per month; must not be null.
+     * @param footer    the text rendered once at the end of the payslip; must not be null.
+     * @throws IllegalArgumentException if any of the texts is null, holds an unterminated or
+     *                                  unknown placeholder, or if the header or the footer
+     *                                  refers to a field only available in the month line.
+     */
+    public PayslipTemplate(String header, String monthLine, String footer) {
+        this.header = compile(header, false);
+        this.monthLine = compile(monthLine, true);
+        this.footer = compile(footer, false);
+    }
+
+    Section getHeader() {
+        return header;
+    }
+
+    Section getMonthLine() {
+        return monthLine;
+    }
+
+    Section getFooter() {
+        return footer;
+    }
+
+    private static Section compile(String text, boolean monthLine) {
+        if (text == null)
+            throw new IllegalArgumentException(
+                    ErrorMessagesEnum.PAYSLIP_TEMPLATE_NULL.getString());
+
+        var literals = new ArrayList<byte[]>();
+        var fields = new ArrayList<PayslipField>();
+        var start = 0;
+        var index = text.indexOf("${");
+        while (index >= 0) {
+            var end = text.indexOf('}', index);
+            if (end < 0)
+                throw new IllegalArgumentException(
+                        ErrorMessagesEnum.INVALID_PAYSLIP_TEMPLATE.getString());
+
+            var field = findField(text.substring(index + 2, end), monthLine);
+            literals.add(text.substring(start, index).getBytes(StandardCharsets.UTF_8));
+            fields.add(field);
+            start = end + 1;
+            index = text.indexOf("${", start);
+        }
+        literals.add(text.substring(start).getBytes(StandardCharsets.UTF_8));
+
+        return new Section(
+                literals.toArray(new byte[0][]),
+                fields.toArray(new PayslipField[0]));
+    }
+
+    private static PayslipField findField(String placeholder, boolean monthLine) {
+        for (var field : PayslipField.values()) {
+            if (!field.getPlaceholder().equals(placeholder)) continue;
+            if (!monthLine && isMonthField(field)) break;
+            return field;
+        }
+        throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_PAYSLIP_TEMPLATE.getString());
+    }
+
+    private static boolean isMonthField(PayslipField field) {
+        for (var monthField : MONTH_FIELDS)
+            if (monthField == field) return true;
+        return false;
+    }
+
+    /**
+     * A compiled section: {@code literals[i]} is rendered before {@code fields[i]}, and the last
+     * literal after the last field.
+     */
+    static class Section {
+        private final byte[][] literals;
+        private final PayslipField[] fields;
+
+        Section(byte[][] literals, PayslipField[] fields) {
+            this.literals = literals;
+            this.fields = fields;
+        }
+
+        int getFieldCount() {
+            return fields.length;
+        }
+
+        byte[] getLiteral(int index) {
+            return literals[index];
+        }
+
+        PayslipField getField(int index) {
+            return fields[index];
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package org.example.query;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * A compressed bitmap of non-negative integer positions, organized like a Roaring bitmap.
+ *
+ * <p>Positions are split by their upper 16 bits into chunks of 65536 positions. A chunk with few
+ * positions is stored as a sorted array of their lower 16 bits; a chunk with more than
+ * {@value #ARRAY_LIMIT} positions is stored as a plain bitset of 1024 words. Sparse indexes
+ * therefore take a few bytes per position while dense ones take one bit per position, and the
+ * bitwise operations work chunk by chunk without expanding the whole bitmap.</p>
+ *
+ * <p>The class is not thread-safe.</p>
+ */
+public class CompressedBitmap {
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int CHUNK_WORDS = 1024;
+
+    private char[] keys = new char[0];
+    private Chunk[] chunks = new Chunk[0];
+    private int chunkCount;
+
+    /**
+     * Adds a position to the bitmap.
+     *
+     * @param position the position to add; must not be negative.
+     */
+    public void add(int position) {
+        var key = (char) (position >>> 16);
+        var index = Arrays.binarySearch(keys, 0, chunkCount, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertChunk(index, key, new Chunk());
+        }
+        chunks[index].add((char) position);
+    }
+
+    /**
+     * Removes a position from the bitmap.
+     *
+     * @param position the position to remove.
+     */
+    public void remove(int position) {
+        var index = Arrays.binarySearch(keys, 0, chunkCount, (char) (position >>> 16));
+        if (index < 0) return;
+        chunks[index].remove((char) position);
+        if (chunks[index].cardinality == 0) removeChunk(index);
+    }
+
+    public boolean contains(int position) {
+        var index = Arrays.binarySearch(keys, 0, chunkCount, (char) (position >>> 16));
+        return index >= 0 && chunks[index].contains((char) position);
+    }
+
+    /**
+     * Returns the number of positions in the bitmap.
+     *
+     * @return the cardinality of the bitmap.
+     */
+    public int getCardinality() {
+        var result = 0;
+        for (int i = 0; i < chunkCount; i++)
+            result += chunks[i].cardinality;
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    /**
+     * Calls the given action for every position, in ascending order.
+     *
+     * @param action the action to call.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            var high = (int) keys[i] << 16;
+            chunks[i].forEach(low -> action.accept(high | low));
+        }
+    }
+
+    /**
+     * Returns an independent copy of this bitmap.
+     *
+     * @return the copy.
+     */
+    public CompressedBitmap copy() {
+        var result = new CompressedBitmap();
+        result.keys = Arrays.copyOf(keys, keys.length);
+        result.chunks = new Chunk[chunks.length];
+        for (int i = 0; i < chunkCount; i++)
+            result.chunks[i] = chunks[i].copy();
+        result.chunkCount = chunkCount;
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap holding the positions of this bitmap accepted by the given filter.
+     *
+     * @param filter the filter the positions are checked against.
+     * @return the filtered bitmap.
+     */
+    public CompressedBitmap filter(IntPredicate filter) {
+        var result = new CompressedBitmap();
+        forEach(position -> {
+            if (filter.test(position)) result.add(position);
+        });
+        return result;
+    }
+
+    /**
+     * Returns the intersection of two bitmaps.
+     *
+     * @param a the first bitmap.
+     * @param b the second bitmap.
+     * @return a new bitmap holding the positions present in both bitmaps.
+     */
+    public static CompressedBitmap and(CompressedBitmap a, CompressedBitmap b) {
+        var result = new CompressedBitmap();
+        int i = 0, j = 0;
+        while (i < a.chunkCount && j < b.chunkCount) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                var chunk = Chunk.and(a.chunks[i], b.chunks[j]);
+                if (chunk.cardinality > 0) result.insertChunk(result.chunkCount, a.keys[i], chunk);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the union of two bitmaps.
+     *
+     * @param a the first bitmap.
+     * @param b the second bitmap.
+     * @return a new bitmap holding the positions present in any of the bitmaps.
+     */
+    public static CompressedBitmap or(CompressedBitmap a, CompressedBitmap b) {
+        var result = new CompressedBitmap();
+        int i = 0, j = 0;
+        while (i < a.chunkCount || j < b.chunkCount) {
+            if (j == b.chunkCount || (i < a.chunkCount && a.keys[i] < b.keys[j])) {
+                result.insertChunk(result.chunkCount, a.keys[i], a.chunks[i].copy());
+                i++;
+            } else if (i == a.chunkCount || a.keys[i] > b.keys[j]) {
+                result.insertChunk(result.chunkCount, b.keys[j], b.chunks[j].copy());
+                j++;
+            } else {
+                var chunk = Chunk.or(a.chunks[i], b.chunks[j]);
+                result.insertChunk(result.chunkCount, a.keys[i], chunk);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the difference of two bitmaps.
+     *
+     * @param a the bitmap the positions are taken from.
+     * @param b the bitmap of the positions to exclude.
+     * @return a new bitmap holding the positions of {@code a} not present in {@code b}.
+     */
+    public static CompressedBitmap andNot(CompressedBitmap a, CompressedBitmap b) {
+        var result = new CompressedBitmap();
+        var j = 0;
+        for (int i = 0; i < a.chunkCount; i++) {
+            while (j < b.chunkCount && b.keys[j] < a.keys[i])
+                j++;
+            var chunk = j < b.chunkCount && b.keys[j] == a.keys[i]
+                    ? Chunk.andNot(a.chunks[i], b.chunks[j])
+                    : a.chunks[i].copy();
+            if (chunk.cardinality > 0) result.insertChunk(result.chunkCount, a.keys[i], chunk);
+        }
+        return result;
+    }
+
+    private void insertChunk(int index, char key, Chunk chunk) {
+        if (chunkCount == keys.length) {
+            var capacity = Math.max(4, chunkCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, chunkCount - index);
+        System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+        keys[index] = key;
+        chunks[index] = chunk;
+        chunkCount++;
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, chunkCount - index - 1);
+        System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+        chunks[--chunkCount] = null;
+    }
+
+    /**
+     * A chunk of 65536 positions, stored either as a sorted array of lower bits ({@code values})
+     * or as a bitset ({@code words}) when it holds more than {@link #ARRAY_LIMIT} positions.
+     */
+    private static class Chunk {
+        private char[] values = new char[4];
+        private long[] words;
+        private int cardinality;
+
+        void add(char value) {
+            if (words != null) {
+                var mask = 1L << value;
+                if ((words[value >>> 6] & mask) == 0) {
+                    words[value >>> 6] |= mask;
+                    cardinality++;
+                }
+                return;
+            }
+
+            var index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) return;
+            index = -index - 1;
+            if (cardinality == values.length)
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_LIMIT + 1));
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            if (cardinality > ARRAY_LIMIT) toWords();
+        }
+
+        void remove(char value) {
+            if (words != null) {
+                var mask = 1L << value;
+                if ((words[value >>> 6] & mask) != 0) {
+                    words[value >>> 6] &= ~mask;
+                    cardinality--;
+                    if (cardinality <= ARRAY_LIMIT / 2) toValues();
+                }
+                return;
+            }
+
+            var index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index < 0) return;
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+        }
+
+        boolean contains(char value) {
+            if (words != null) return (words[value >>> 6] & (1L << value)) != 0;
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        void forEach(IntConsumer action) {
+            if (words == null) {
+                for (int i = 0; i < cardinality; i++)
+                    action.accept(values[i]);
+                return;
+            }
+            for (int w = 0; w < CHUNK_WORDS; w++) {
+                var word = words[w];
+                while (word != 0) {
+                    action.accept((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        Chunk copy() {
+            var result = new Chunk();
+            result.cardinality = cardinality;
+            if (words != null) result.words = words.clone();
+            else result.values = Arrays.copyOf(values, Math.max(4, cardinality));
+            return result;
+        }
+
+        static Chunk and(Chunk a, Chunk b) {
+            if (a.words != null && b.words != null) {
+                var result = new Chunk();
+                result.words = new long[CHUNK_WORDS];
+                for (int w = 0; w < CHUNK_WORDS; w++) {
+                    result.words[w] = a.words[w] & b.words[w];
+                    result.cardinality += Long.bitCount(result.words[w]);
+                }
+                if (result.cardinality <= ARRAY_LIMIT) result.toValues();
+                return result;
+            }
+
+            var sparse = a.words == null ? a : b;
+            var other = sparse == a ? b : a;
+            var result = new Chunk();
+            result.values = new char[Math.max(4, sparse.cardinality)];
+            for (int i = 0; i < sparse.cardinality; i++)
+                if (other.contains(sparse.values[i]))
+                    result.values[result.cardinality++] = sparse.values[i];
+            return result;
+        }
+
+        static Chunk or(Chunk a, Chunk b) {
+            if (a.words != null && b.words != null) {
+                var result = new Chunk();
+                result.words = new long[CHUNK_WORDS];
+                for (int w = 0; w < CHUNK_WORDS; w++) {
+                    result.words[w] = a.words[w] | b.words[w];
+                    result.cardinality += Long.bitCount(result.words[w]);
+                }
+                return result;
+            }
+
+            // Start from the dense or the larger chunk and add the values of the other one.
+            var base = a.words != null || (b.words == null && a.cardinality >= b.cardinality)
+                    ? a
+                    : b;
+            var other = base == a ? b : a;
+            var result = base.copy();
+            other.forEach(value -> result.add((char) value));
+            return result;
+        }
+
+        static Chunk andNot(Chunk a, Chunk b) {
+            var result = a.copy();
+            b.forEach(value -> result.remove((char) value));
+            return result;
+        }
+
+        private void toWords() {
+            words = new long[CHUNK_WORDS];
+            for (int i = 0; i < cardinality; i++)
+                words[values[i] >>> 6] |= 1L << values[i];
+            values = null;
+        }
+
+        private void toValues() {
+            var result = new char[Math.max(4, cardinality)];
+            var index = 0;
+            for (int w = 0; w < CHUNK_WORDS; w++) {
+                var word = words[w];
+                while (word != 0) {
+                    result[index++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = result;
+            words = null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.query;
+
+/**
+ * A predicate over the employees of a {@link WorkforceIndex}, evaluated to the bitmap of the
+ * positions of the matching employees. Filters are created and combined with
+ * {@link EmployeeFilters}.
+ */
+public interface EmployeeFilter {
+    /**
+     * Evaluates the filter against the indexes of the workforce.
+     *
+     * @param index the workforce index.
+     * @return a new bitmap of the positions of the matching employees.
+     */
+    CompressedBitmap evaluate(WorkforceIndex index);
+}
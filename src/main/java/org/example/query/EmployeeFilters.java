@@ -0,0 +1,123 @@
+package org.example.query;
+
+import org.example.enums.ErrorMessagesEnum;
+import org.example.enums.GenderEnum;
+import org.example.enums.RoleEnum;
+
+/**
+ * Utility class for creating and combining {@link EmployeeFilter}s.
+ * For instance, female managers over 40 are selected by
+ * {@code and(gender(FEMALE), role(MANAGER), ageBetween(41, Integer.MAX_VALUE))}.
+ */
+public class EmployeeFilters {
+    /**
+     * Returns a filter matching every indexed employee.
+     *
+     * @return the filter.
+     */
+    public static EmployeeFilter all() {
+        return index -> index.getAll().copy();
+    }
+
+    public static EmployeeFilter gender(GenderEnum gender) {
+        if (gender == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.GENDER_NULL.getString());
+        return index -> index.getGender(gender).copy();
+    }
+
+    public static EmployeeFilter role(RoleEnum role) {
+        if (role == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.ROLE_NULL.getString());
+        return index -> index.getRole(role).copy();
+    }
+
+    /**
+     * Returns a filter matching the employees whose age is within the given inclusive range.
+     *
+     * @param min the minimum age.
+     * @param max the maximum age.
+     * @return the filter.
+     * @throws IllegalArgumentException if {@code max} is less than {@code min}.
+     */
+    public static EmployeeFilter ageBetween(int min, int max) {
+        checkRange(min, max);
+        return index -> index.getAgeRange(min, max);
+    }
+
+    /**
+     * Returns a filter matching the employees whose number of subordinates is within the given
+     * inclusive range. Employees that are not managers have no subordinates.
+     *
+     * @param min the minimum number of subordinates.
+     * @param max the maximum number of subordinates.
+     * @return the filter.
+     * @throws IllegalArgumentException if {@code max} is less than {@code min}.
+     */
+    public static EmployeeFilter subordinatesBetween(int min, int max) {
+        checkRange(min, max);
+        return index -> index.getSubordinateRange(min, max);
+    }
+
+    /**
+     * Returns a filter matching the employees matched by all the given filters.
+     *
+     * @param filters the filters to combine; must not be empty.
+     * @return the filter.
+     * @throws IllegalArgumentException if no filter is given or any of them is null.
+     */
+    public static EmployeeFilter and(EmployeeFilter... filters) {
+        checkNotEmpty(filters);
+        return index -> {
+            var result = filters[0].evaluate(index);
+            for (int i = 1; i < filters.length && !result.isEmpty(); i++)
+                result = CompressedBitmap.and(result, filters[i].evaluate(index));
+            return result;
+        };
+    }
+
+    /**
+     * Returns a filter matching the employees matched by any of the given filters.
+     *
+     * @param filters the filters to combine; must not be empty.
+     * @return the filter.
+     * @throws IllegalArgumentException if no filter is given or any of them is null.
+     */
+    public static EmployeeFilter or(EmployeeFilter... filters) {
+        checkNotEmpty(filters);
+        return index -> {
+            var result = filters[0].evaluate(index);
+            for (int i = 1; i < filters.length; i++)
+                result = CompressedBitmap.or(result, filters[i].evaluate(index));
+            return result;
+        };
+    }
+
+    /**
+     * Returns a filter matching the employees not matched by the given filter.
+     *
+     * @param filter the filter to negate; must not be null.
+     * @return the filter.
+     * @throws IllegalArgumentException if the filter is null.
+     */
+    public static EmployeeFilter not(EmployeeFilter filter) {
+        checkNotNull(filter);
+        return index -> CompressedBitmap.andNot(index.getAll(), filter.evaluate(index));
+    }
+
+    private static void checkNotNull(EmployeeFilter value) {
+        if (value == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.EMPLOYEE_FILTER_NULL.getString());
+    }
+
+    private static void checkNotEmpty(EmployeeFilter[] filters) {
+        if (filters == null || filters.length == 0)
+            throw new IllegalArgumentException(ErrorMessagesEnum.EMPLOYEE_FILTER_NULL.getString());
+        for (var filter : filters)
+            checkNotNull(filter);
+    }
+
+    private static void checkRange(int min, int max) {
+        if (max < min)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_VALUE_RANGE.getString());
+    }
+}
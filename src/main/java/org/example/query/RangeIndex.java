@@ -0,0 +1,61 @@
+package org.example.query;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A bitmap index over an integer attribute, with one bitmap per bucket of values. Buckets have
+ * a fixed width, the first one also holds the values below it and the last one is open-ended.
+ * Range selections use the bitmaps of the buckets fully inside the range as they are and check
+ * the exact values only for the positions of the buckets at the bounds of the range.
+ */
+class RangeIndex {
+    private final int bucketWidth;
+    private final CompressedBitmap[] buckets;
+
+    RangeIndex(int bucketWidth, int bucketCount) {
+        this.bucketWidth = bucketWidth;
+        this.buckets = new CompressedBitmap[bucketCount];
+        for (int i = 0; i < bucketCount; i++)
+            buckets[i] = new CompressedBitmap();
+    }
+
+    void add(int position, int value) {
+        buckets[getBucket(value)].add(position);
+    }
+
+    void remove(int position, int value) {
+        buckets[getBucket(value)].remove(position);
+    }
+
+    /**
+     * Returns the positions whose value is within the given inclusive range.
+     *
+     * @param min     the lower bound of the range.
+     * @param max     the upper bound of the range.
+     * @param valueOf the function returning the exact value of a position.
+     * @return a new bitmap of the matching positions.
+     */
+    CompressedBitmap select(int min, int max, IntUnaryOperator valueOf) {
+        var result = new CompressedBitmap();
+        for (int bucket = getBucket(min); bucket <= getBucket(max); bucket++) {
+            var lower = bucket == 0 ? Integer.MIN_VALUE : bucket * bucketWidth;
+            var upper = bucket == buckets.length - 1
+                    ? Integer.MAX_VALUE
+                    : (bucket + 1) * bucketWidth - 1;
+
+            var selected = min <= lower && upper <= max
+                    ? buckets[bucket]
+                    : buckets[bucket].filter(position -> {
+                        var value = valueOf.applyAsInt(position);
+                        return value >= min && value <= max;
+                    });
+            result = CompressedBitmap.or(result, selected);
+        }
+        return result;
+    }
+
+    private int getBucket(int value) {
+        if (value < 0) return 0;
+        return Math.min(value / bucketWidth, buckets.length - 1);
+    }
+}
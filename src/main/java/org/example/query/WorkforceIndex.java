@@ -0,0 +1,230 @@
+package org.example.query;
+
+import org.example.Employee;
+import org.example.EmployeeChangeListener;
+import org.example.Manager;
+import org.example.Month;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.enums.GenderEnum;
+import org.example.enums.RoleEnum;
+import org.example.helpers.ValueChecker;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A queryable view of a workforce, with compressed bitmap indexes on the gender, the role, the
+ * age and the number of subordinates of the employees.
+ *
+ * <p>Every employee gets a stable position in the index. Filters built with
+ * {@link EmployeeFilters} are evaluated to bitmaps of positions by combining the indexes with
+ * bitwise operations, and salaries are computed only for the matching positions.</p>
+ *
+ * <p>The index registers itself as a change listener of every indexed employee, so changes made
+ * through the setters of the employees are reflected immediately. The class is not
+ * thread-safe.</p>
+ */
+public class WorkforceIndex implements EmployeeChangeListener {
+    private static final int AGE_BAND_WIDTH = 10;
+    private static final int AGE_BAND_COUNT = 16;
+    private static final int SUBORDINATE_BUCKET_COUNT = 32;
+    private static final int NO_GENDER = -1;
+
+    private final Map<Employee, Integer> positions = new IdentityHashMap<>();
+    private final CompressedBitmap all = new CompressedBitmap();
+    private final CompressedBitmap[] byGender = new CompressedBitmap[GenderEnum.values().length];
+    private final CompressedBitmap[] byRole = new CompressedBitmap[RoleEnum.values().length];
+    private final RangeIndex byAge = new RangeIndex(AGE_BAND_WIDTH, AGE_BAND_COUNT);
+    private final RangeIndex bySubordinates = new RangeIndex(1, SUBORDINATE_BUCKET_COUNT);
+
+    private Employee[] employees = new Employee[16];
+    private int[] genders = new int[16];
+    private int[] roles = new int[16];
+    private int[] ages = new int[16];
+    private int[] subordinates = new int[16];
+    private int size;
+
+    /**
+     * Constructs an empty {@code WorkforceIndex}.
+     */
+    public WorkforceIndex() {
+        for (int i = 0; i < byGender.length; i++)
+            byGender[i] = new CompressedBitmap();
+        for (int i = 0; i < byRole.length; i++)
+            byRole[i] = new CompressedBitmap();
+    }
+
+    /**
+     * Constructs a {@code WorkforceIndex} holding the given employees.
+     *
+     * @param employees the employees to index; must not be null or empty.
+     * @throws IllegalArgumentException if the collection is null or empty or holds null values.
+     */
+    public WorkforceIndex(Employee[] employees) {
+        this();
+        ValueChecker.checkEmployeeCollection(employees);
+        for (var employee : employees)
+            add(employee);
+    }
+
+    /**
+     * Adds an employee to the index. Adding an employee that is already indexed has no effect.
+     *
+     * @param employee the employee to add; must not be null.
+     * @return the position of the employee in the index.
+     * @throws IllegalArgumentException if the employee is null.
+     */
+    public int add(Employee employee) {
+        ValueChecker.checkEmployee(employee);
+        var existing = positions.get(employee);
+        if (existing != null) return existing;
+
+        if (size == employees.length) {
+            var capacity = size * 2;
+            employees = Arrays.copyOf(employees, capacity);
+            genders = Arrays.copyOf(genders, capacity);
+            roles = Arrays.copyOf(roles, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            subordinates = Arrays.copyOf(subordinates, capacity);
+        }
+        var position = size++;
+        employees[position] = employee;
+        positions.put(employee, position);
+        all.add(position);
+        index(position);
+        employee.addChangeListener(this);
+        return position;
+    }
+
+    /**
+     * Removes an employee from the index. The position of the employee is not reused.
+     *
+     * @param employee the employee to remove.
+     * @return {@code true} if the employee was indexed.
+     */
+    public boolean remove(Employee employee) {
+        var position = positions.remove(employee);
+        if (position == null) return false;
+
+        employee.removeChangeListener(this);
+        unindex(position);
+        all.remove(position);
+        employees[position] = null;
+        return true;
+    }
+
+    @Override
+    public void onEmployeeChanged(Employee employee) {
+        var position = positions.get(employee);
+        if (position == null) return;
+        unindex(position);
+        index(position);
+    }
+
+    /**
+     * Returns the number of employees matching the given filter.
+     *
+     * @param filter the filter; must not be null.
+     * @return the number of matching employees.
+     * @throws IllegalArgumentException if the filter is null.
+     */
+    public int count(EmployeeFilter filter) {
+        return evaluate(filter).getCardinality();
+    }
+
+    /**
+     * Returns the employees matching the given filter, in the order they were added.
+     *
+     * @param filter the filter; must not be null.
+     * @return the matching employees.
+     * @throws IllegalArgumentException if the filter is null.
+     */
+    public Employee[] getEmployees(EmployeeFilter filter) {
+        var matching = evaluate(filter);
+        var result = new Employee[matching.getCardinality()];
+        var index = new int[1];
+        matching.forEach(position -> result[index[0]++] = employees[position]);
+        return result;
+    }
+
+    /**
+     * Returns the total salary of the employees matching the given filter for the specified
+     * months. Salaries are computed only for the matching employees.
+     *
+     * @param filter the filter; must not be null.
+     * @param months the months for which the salary is calculated; must not be null or empty.
+     * @return the total salary rounded to two decimal places using rounding mode
+     * {@link RoundingMode#HALF_UP}, or zero if no employee matches.
+     * @throws IllegalArgumentException if the filter is null or the month array is null or empty.
+     */
+    public BigDecimal getTotalSalary(EmployeeFilter filter, Month[] months) {
+        ValueChecker.checkMonthCollection(months);
+        var matching = evaluate(filter);
+        var result = new BigDecimal[]{BigDecimal.ZERO};
+        matching.forEach(position ->
+                result[0] = result[0].add(employees[position].getSalary(months)));
+        return result[0].setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Returns the number of indexed employees.
+     *
+     * @return the number of employees.
+     */
+    public int size() {
+        return positions.size();
+    }
+
+    CompressedBitmap getAll() {
+        return all;
+    }
+
+    CompressedBitmap getGender(GenderEnum gender) {
+        return byGender[gender.ordinal()];
+    }
+
+    CompressedBitmap getRole(RoleEnum role) {
+        return byRole[role.ordinal()];
+    }
+
+    CompressedBitmap getAgeRange(int min, int max) {
+        return byAge.select(min, max, position -> ages[position]);
+    }
+
+    CompressedBitmap getSubordinateRange(int min, int max) {
+        return bySubordinates.select(min, max, position -> subordinates[position]);
+    }
+
+    private CompressedBitmap evaluate(EmployeeFilter filter) {
+        if (filter == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.EMPLOYEE_FILTER_NULL.getString());
+        return filter.evaluate(this);
+    }
+
+    private void index(int position) {
+        var employee = employees[position];
+        genders[position] = employee.getGender() == null
+                ? NO_GENDER
+                : employee.getGender().ordinal();
+        roles[position] = employee.getRole().ordinal();
+        ages[position] = employee.getAge();
+        subordinates[position] = employee instanceof Manager
+                ? ((Manager) employee).getSubordinateNumber()
+                : 0;
+
+        if (genders[position] != NO_GENDER) byGender[genders[position]].add(position);
+        byRole[roles[position]].add(position);
+        byAge.add(position, ages[position]);
+        bySubordinates.add(position, subordinates[position]);
+    }
+
+    private void unindex(int position) {
+        if (genders[position] != NO_GENDER) byGender[genders[position]].remove(position);
+        byRole[roles[position]].remove(position);
+        byAge.remove(position, ages[position]);
+        bySubordinates.remove(position, subordinates[position]);
+    }
+}
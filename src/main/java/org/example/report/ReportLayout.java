@@ -0,0 +1,23 @@
+package org.example.report;
+
+/**
+ * Enum representing the layouts supported by {@link SalaryReportWriter}.
+ */
+public enum ReportLayout {
+    /**
+     * Human-readable lines, identical to the console output of the application.
+     */
+    TEXT,
+    /**
+     * Comma-separated values with a header line and a record type column.
+     */
+    CSV,
+    /**
+     * Columns padded to a fixed width: the name is left-aligned and the amount right-aligned.
+     */
+    FIXED_WIDTH,
+    /**
+     * One JSON object per line (JSON Lines).
+     */
+    JSON
+}
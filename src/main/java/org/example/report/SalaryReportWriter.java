@@ -0,0 +1,329 @@
+package org.example.report;
+
+import org.example.enums.ErrorMessagesEnum;
+import org.example.enums.OutputStringPatternEnum;
+import org.example.helpers.ByteEncoder;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes salary report lines to a {@link WritableByteChannel}.
+ *
+ * <p>Lines are rendered directly into a reusable byte buffer, without {@code String.format} and
+ * without intermediate strings: names and amounts are encoded by {@link ByteEncoder}. The buffer
+ * is written to the channel only when it is full or when the writer is flushed, so millions of
+ * lines can be written with a few thousand system calls.</p>
+ *
+ * <p>The writer is not thread-safe.</p>
+ *
+ * @see ReportLayout
+ */
+public class SalaryReportWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NAME_WIDTH = 32;
+    private static final int AMOUNT_WIDTH = 16;
+    private static final byte[] LINE_SEPARATOR = ascii(System.lineSeparator());
+    private static final byte[] TEXT_SALARY_PREFIX =
+            patternPart(OutputStringPatternEnum.EMPLOYEE_SALARY, 0);
+    private static final byte[] TEXT_SALARY_SEPARATOR =
+            patternPart(OutputStringPatternEnum.EMPLOYEE_SALARY, 1);
+    private static final byte[] TEXT_TOTAL_PREFIX =
+            patternPart(OutputStringPatternEnum.TOTAL_SALARY, 0);
+    private static final byte[] CSV_HEADER = ascii("record,name,salary");
+    private static final byte[] CSV_EMPLOYEE = ascii("employee,");
+    private static final byte[] CSV_TOTAL = ascii("total,,");
+    private static final byte[] FIXED_TOTAL = ascii("TOTAL");
+    private static final byte[] JSON_NAME = ascii("{\"name\":\"");
+    private static final byte[] JSON_SALARY = ascii("\",\"salary\":");
+    private static final byte[] JSON_TOTAL = ascii("{\"total\":");
+    private static final byte[] HEX_DIGITS = ascii("0123456789abcdef");
+
+    private final WritableByteChannel channel;
+    private final boolean closeChannel;
+    private final ReportLayout layout;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteBuffer bufferView = ByteBuffer.wrap(buffer);
+    private final byte[] digits = new byte[ByteEncoder.MAX_DECIMAL_LENGTH];
+    private int position;
+
+    /**
+     * Constructs a new {@code SalaryReportWriter} writing to the given channel.
+     *
+     * @param channel      the channel the report is written to; must not be null.
+     * @param closeChannel whether the channel is closed when the writer is closed.
+     * @param layout       the layout of the report; must not be null.
+     * @throws IllegalArgumentException if the channel or the layout is null.
+     */
+    public SalaryReportWriter(
+            WritableByteChannel channel,
+            boolean closeChannel,
+            ReportLayout layout) {
+
+        if (channel == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.CHANNEL_NULL.getString());
+        if (layout == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.REPORT_LAYOUT_NULL.getString());
+        this.channel = channel;
+        this.closeChannel = closeChannel;
+        this.layout = layout;
+
+        if (layout == ReportLayout.CSV) {
+            System.arraycopy(CSV_HEADER, 0, buffer, 0, CSV_HEADER.length);
+            System.arraycopy(LINE_SEPARATOR, 0, buffer, CSV_HEADER.length, LINE_SEPARATOR.length);
+            position = CSV_HEADER.length + LINE_SEPARATOR.length;
+        }
+    }
+
+    /**
+     * Creates a writer that writes the report to the given file through a {@link FileChannel}.
+     * The file is created if it does not exist and truncated otherwise.
+     *
+     * @param file   the path of the report file.
+     * @param layout the layout of the report; must not be null.
+     * @return a new {@code SalaryReportWriter} that closes the file when it is closed.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static SalaryReportWriter toFile(Path file, ReportLayout layout) throws IOException {
+        var fileChannel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        return new SalaryReportWriter(fileChannel, true, layout);
+    }
+
+    /**
+     * Creates a writer that writes the report to the standard output. Closing the writer flushes
+     * the pending lines but leaves the standard output open.
+     *
+     * @param layout the layout of the report; must not be null.
+     * @return a new {@code SalaryReportWriter} writing to the standard output.
+     */
+    public static SalaryReportWriter toStandardOutput(ReportLayout layout) {
+        var stdout = Channels.newChannel(new FileOutputStream(FileDescriptor.out));
+        return new SalaryReportWriter(stdout, false, layout);
+    }
+
+    /**
+     * Writes the salary line of a single employee.
+     *
+     * @param name   the name of the employee.
+     * @param salary the salary of the employee.
+     * @throws IOException if the buffer cannot be written to the channel.
+     */
+    public void writeSalary(String name, BigDecimal salary) throws IOException {
+        switch (layout) {
+            case TEXT:
+                put(TEXT_SALARY_PREFIX);
+                putString(name);
+                put(TEXT_SALARY_SEPARATOR);
+                putDecimal(salary);
+                break;
+            case CSV:
+                put(CSV_EMPLOYEE);
+                putCsvString(name);
+                put((byte) ',');
+                putDecimal(salary);
+                break;
+            case FIXED_WIDTH:
+                putFixedWidthName(name);
+                putPaddedDecimal(salary);
+                break;
+            case JSON:
+                put(JSON_NAME);
+                putJsonString(name);
+                put(JSON_SALARY);
+                putDecimal(salary);
+                put((byte) '}');
+                break;
+        }
+        put(LINE_SEPARATOR);
+    }
+
+    /**
+     * Writes the total salary line.
+     *
+     * @param totalSalary the total salary of all the employees.
+     * @throws IOException if the buffer cannot be written to the channel.
+     */
+    public void writeTotal(BigDecimal totalSalary) throws IOException {
+        switch (layout) {
+            case TEXT:
+                put(TEXT_TOTAL_PREFIX);
+                putDecimal(totalSalary);
+                break;
+            case CSV:
+                put(CSV_TOTAL);
+                putDecimal(totalSalary);
+                break;
+            case FIXED_WIDTH:
+                put(FIXED_TOTAL);
+                putSpaces(NAME_WIDTH - FIXED_TOTAL.length);
+                putPaddedDecimal(totalSalary);
+                break;
+            case JSON:
+                put(JSON_TOTAL);
+                putDecimal(totalSalary);
+                put((byte) '}');
+                break;
+        }
+        put(LINE_SEPARATOR);
+    }
+
+    /**
+     * Writes all the buffered lines to the channel.
+     *
+     * @throws IOException if the buffer cannot be written to the channel.
+     */
+    public void flush() throws IOException {
+        bufferView.clear().limit(position);
+        while (bufferView.hasRemaining())
+            channel.write(bufferView);
+        position = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (closeChannel) channel.close();
+        }
+    }
+
+    private void put(byte value) throws IOException {
+        if (position == buffer.length) flush();
+        buffer[position++] = value;
+    }
+
+    private void put(byte[] values) throws IOException {
+        if (buffer.length - position < values.length) flush();
+        System.arraycopy(values, 0, buffer, position, values.length);
+        position += values.length;
+    }
+
+    private void putSpaces(int count) throws IOException {
+        for (int i = 0; i < count; i++)
+            put((byte) ' ');
+    }
+
+    private void putString(String value) throws IOException {
+        var maxLength = value.length() * ByteEncoder.MAX_BYTES_PER_CHAR;
+        if (buffer.length - position < maxLength) flush();
+        if (buffer.length < maxLength) {
+            // Longer than the whole buffer: encode it separately and write it directly.
+            var view = ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+            while (view.hasRemaining())
+                channel.write(view);
+            return;
+        }
+        position = ByteEncoder.putUtf8(value, buffer, position);
+    }
+
+    /**
+     * Writes a name padded to {@link #NAME_WIDTH} code points. Longer names are truncated so that
+     * at least one space always separates the name from the amount.
+     */
+    private void putFixedWidthName(String name) throws IOException {
+        var length = name.codePointCount(0, name.length());
+        if (length >= NAME_WIDTH) {
+            name = name.substring(0, name.offsetByCodePoints(0, NAME_WIDTH - 1));
+            length = NAME_WIDTH - 1;
+        }
+        putString(name);
+        putSpaces(NAME_WIDTH - length);
+    }
+
+    private void putCsvString(String value) throws IOException {
+        var needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            var c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            putString(value);
+            return;
+        }
+
+        put((byte) '"');
+        var start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                putString(value.substring(start, i + 1));
+                put((byte) '"');
+                start = i + 1;
+            }
+        }
+        putString(value.substring(start));
+        put((byte) '"');
+    }
+
+    private void putJsonString(String value) throws IOException {
+        var start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c != '"' && c != '\\' && c >= 0x20) continue;
+
+            putString(value.substring(start, i));
+            put((byte) '\\');
+            if (c == '"' || c == '\\') {
+                put((byte) c);
+            } else {
+                put((byte) 'u');
+                put((byte) '0');
+                put((byte) '0');
+                put(HEX_DIGITS[c >> 4]);
+                put(HEX_DIGITS[c & 0xF]);
+            }
+            start = i + 1;
+        }
+        putString(start == 0 ? value : value.substring(start));
+    }
+
+    private void putDecimal(BigDecimal value) throws IOException {
+        if (!ByteEncoder.isFastDecimal(value)) {
+            putString(value.toPlainString());
+            return;
+        }
+        if (buffer.length - position < ByteEncoder.MAX_DECIMAL_LENGTH) flush();
+        position = ByteEncoder.putDecimal(value, buffer, position);
+    }
+
+    private void putPaddedDecimal(BigDecimal value) throws IOException {
+        if (!ByteEncoder.isFastDecimal(value)) {
+            var plain = value.toPlainString();
+            putSpaces(AMOUNT_WIDTH - plain.length());
+            putString(plain);
+            return;
+        }
+        var length = ByteEncoder.putDecimal(value, digits, 0);
+        putSpaces(AMOUNT_WIDTH - length);
+        for (int i = 0; i < length; i++)
+            put(digits[i]);
+    }
+
+    /**
+     * Returns the literal text of a pattern before or between its {@code %s} placeholders.
+     *
+     * @param pattern the pattern.
+     * @param index   the index of the literal: 0 for the text before the first placeholder.
+     * @return the encoded literal.
+     */
+    private static byte[] patternPart(OutputStringPatternEnum pattern, int index) {
+        return ascii(pattern.getString().split("%s", -1)[index]);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.shadow;
+
+import org.example.Employee;
+import org.example.Month;
+
+import java.math.BigDecimal;
+
+/**
+ * An implementation of the salary computation of a single employee. The reference engine is
+ * {@link Employee#getSalary(Month[])}; alternate engines are verified against it by
+ * {@link ShadowVerifier}.
+ */
+public interface SalaryEngine {
+    /**
+     * Calculates the salary of an employee for the given months.
+     *
+     * @param employee the employee.
+     * @param months   the months to calculate the salary for.
+     * @return the salary.
+     */
+    BigDecimal getSalary(Employee employee, Month[] months);
+}
@@ -0,0 +1,104 @@
+package org.example.shadow;
+
+import org.example.Employee;
+import org.example.Manager;
+import org.example.Month;
+
+import java.math.BigDecimal;
+
+/**
+ * Describes a difference between the reference salary and the salary computed by an alternate
+ * engine, together with the complete input of the computation: the copy of the employee taken by
+ * {@link ShadowVerifier} before both salaries were computed.
+ */
+public class ShadowMismatch {
+    private final String description;
+    private final BigDecimal referenceSalary;
+    private final BigDecimal candidateSalary;
+    private final RuntimeException candidateError;
+
+    ShadowMismatch(
+            Employee employee,
+            Month[] months,
+            BigDecimal referenceSalary,
+            BigDecimal candidateSalary,
+            RuntimeException candidateError) {
+
+        this.description = describe(
+                employee,
+                months,
+                referenceSalary,
+                candidateSalary,
+                candidateError);
+        this.referenceSalary = referenceSalary;
+        this.candidateSalary = candidateSalary;
+        this.candidateError = candidateError;
+    }
+
+    public BigDecimal getReferenceSalary() {
+        return referenceSalary;
+    }
+
+    /**
+     * Returns the salary computed by the alternate engine.
+     *
+     * @return the candidate salary, or {@code null} if the engine failed.
+     */
+    public BigDecimal getCandidateSalary() {
+        return candidateSalary;
+    }
+
+    /**
+     * Returns the exception thrown by the alternate engine.
+     *
+     * @return the exception, or {@code null} if the engine returned a value.
+     */
+    public RuntimeException getCandidateError() {
+        return candidateError;
+    }
+
+    /**
+     * Returns a description of the mismatch including every input of the computation: the
+     * employee attributes, the manager data and the working days of each month.
+     *
+     * @return the description of the mismatch.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    private static String describe(
+            Employee employee,
+            Month[] months,
+            BigDecimal referenceSalary,
+            BigDecimal candidateSalary,
+            RuntimeException candidateError) {
+
+        var result = new StringBuilder("Salary mismatch for ")
+                .append(employee.getName())
+                .append(" [role=").append(employee.getRole().getDisplayName())
+                .append(", age=").append(employee.getAge())
+                .append(", gender=")
+                .append(employee.getGender() == null ? "-" : employee.getGender().getDisplayName())
+                .append(", wage=").append(employee.getWage());
+        if (employee instanceof Manager) {
+            var manager = (Manager) employee;
+            result.append(", subordinates=").append(manager.getSubordinateNumber())
+                    .append(", supplementPercent=").append(manager.getSalarySupplementPercent());
+        }
+        result.append("] months [");
+        for (int i = 0; i < months.length; i++) {
+            if (i > 0) result.append(", ");
+            result.append(months[i].getName()).append('=').append(months[i].getWorkDays());
+        }
+        result.append("]: reference=").append(referenceSalary);
+        if (candidateError != null) result.append(", candidate failed: ").append(candidateError);
+        else result.append(", candidate=").append(candidateSalary);
+        return result.toString();
+    }
+}
@@ -0,0 +1,296 @@
+package org.example.shadow;
+
+import org.example.Director;
+import org.example.Employee;
+import org.example.Manager;
+import org.example.Month;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.helpers.ValueChecker;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Runs salary computations through the reference path and, for a sample of the employees,
+ * through an alternate {@link SalaryEngine} as well, reporting every difference.
+ *
+ * <p>The reference path is {@link Employee#getSalary(Month[])}, so the semantics verified are
+ * those of {@link Employee} and {@link org.example.Manager}, including the
+ * {@code setScale(2, HALF_UP)} rounding of managers. Values are compared numerically: a
+ * difference in scale alone is not a mismatch. The callers always receive the reference result,
+ * so a faulty alternate engine cannot affect them.</p>
+ *
+ * <p>The alternate engine runs either inline, right after the reference path, or on a background
+ * executor. The attributes of a sampled employee (wage, role, subordinates and supplement
+ * percent included) are copied before the reference salary is computed, and the reference path,
+ * the engine and the reported mismatch all work on that copy, so changes made to the employee
+ * concurrently cannot cause false mismatches. Only {@link Employee}, {@link Manager} and
+ * {@link Director} instances are copied; other subclasses are passed as they are. The sample
+ * rate can be changed at any time and the counters can be read concurrently.</p>
+ */
+public class ShadowVerifier {
+    private final SalaryEngine candidate;
+    private final Executor executor;
+    private final Consumer<ShadowMismatch> mismatchHandler;
+    private volatile double sampleRate;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+    private final LongAdder skippedSamples = new LongAdder();
+    private final LongAdder referenceNanos = new LongAdder();
+    private final LongAdder candidateNanos = new LongAdder();
+
+    /**
+     * Constructs a {@code ShadowVerifier} running the alternate engine inline.
+     *
+     * @param candidate       the alternate engine; must not be null.
+     * @param sampleRate      the share of the computations verified, from 0 to 1.
+     * @param mismatchHandler the handler receiving the mismatches; must not be null.
+     * @throws IllegalArgumentException if the engine or the handler is null or the sample rate is
+     *                                  not within {@code [0, 1]}.
+     */
+    public ShadowVerifier(
+            SalaryEngine candidate,
+            double sampleRate,
+            Consumer<ShadowMismatch> mismatchHandler) {
+
+        this(candidate, sampleRate, mismatchHandler, null);
+    }
+
+    /**
+     * Constructs a {@code ShadowVerifier} running the alternate engine on the given executor.
+     *
+     * @param candidate       the alternate engine; must not be null.
+     * @param sampleRate      the share of the computations verified, from 0 to 1.
+     * @param mismatchHandler the handler receiving the mismatches; must not be null. In the
+     *                        background mode it is called on the executor threads.
+     * @param executor        the executor running the alternate engine, or {@code null} to run
+     *                        it inline.
+     * @throws IllegalArgumentException if the engine or the handler is null or the sample rate is
+     *                                  not within {@code [0, 1]}.
+     */
+    public ShadowVerifier(
+            SalaryEngine candidate,
+            double sampleRate,
+            Consumer<ShadowMismatch> mismatchHandler,
+            Executor executor) {
+
+        if (candidate == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.SALARY_ENGINE_NULL.getString());
+        if (mismatchHandler == null)
+            throw new IllegalArgumentException(
+                    ErrorMessagesEnum.MISMATCH_HANDLER_NULL.getString());
+        this.candidate = candidate;
+        this.mismatchHandler = mismatchHandler;
+        this.executor = executor;
+        setSampleRate(sampleRate);
+    }
+
+    /**
+     * Changes the share of the computations verified by the alternate engine.
+     *
+     * @param value the sample rate, from {@code 0.0} (none) to {@code 1.0} (all).
+     * @throws IllegalArgumentException if the value is not within {@code [0, 1]}.
+     */
+    public void setSampleRate(double value) {
+        if (!(value >= 0.0 && value <= 1.0))
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_SAMPLE_RATE.getString());
+        this.sampleRate = value;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Calculates the salary of an employee through the reference path and verifies a sample of
+     * the calls against the alternate engine.
+     *
+     * @param employee the employee; must not be null.
+     * @param months   the months to calculate the salary for; must not be null or empty.
+     * @return the reference salary.
+     * @throws IllegalArgumentException if the employee is null or the month array is null or
+     *                                  empty.
+     */
+    public BigDecimal getSalary(Employee employee, Month[] months) {
+        ValueChecker.checkEmployee(employee);
+        ValueChecker.checkMonthCollection(months);
+
+        var rate = sampleRate;
+        var sampled = rate > 0.0
+                && (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate);
+        var input = employee;
+        var inputMonths = months;
+        if (sampled) {
+            try {
+                input = copyOf(employee);
+                inputMonths = months.clone();
+            } catch (IllegalArgumentException e) {
+                skippedSamples.increment();
+                sampled = false;
+            }
+        }
+
+        var start = System.nanoTime();
+        var reference = input.getSalary(inputMonths);
+        referenceNanos.add(System.nanoTime() - start);
+        calls.increment();
+
+        if (sampled) verify(input, inputMonths, reference);
+        return reference;
+    }
+
+    /**
+     * Calculates the total salary of the employees through the reference path, with the
+     * semantics of {@link org.example.SalaryUtils#getTotalSalary(Employee[], Month[])}, and
+     * verifies a sample of the individual salaries against the alternate engine.
+     *
+     * @param employees the employees; must not be null or empty.
+     * @param months    the months to calculate the salary for; must not be null or empty.
+     * @return the total reference salary rounded to two decimal places using rounding mode
+     * {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException if any of the collections is null or empty.
+     */
+    public BigDecimal getTotalSalary(Employee[] employees, Month[] months) {
+        ValueChecker.checkMonthCollection(months);
+        ValueChecker.checkEmployeeCollection(employees);
+
+        var result = BigDecimal.ZERO;
+        for (var employee : employees)
+            result = result.add(getSalary(employee, months));
+        return result.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Returns the number of salaries computed through the verifier.
+     *
+     * @return the number of calls.
+     */
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    /**
+     * Returns the number of salaries verified against the alternate engine.
+     *
+     * @return the number of samples.
+     */
+    public long getSampleCount() {
+        return samples.sum();
+    }
+
+    /**
+     * Returns the number of samples where the alternate engine returned a different value or
+     * failed.
+     *
+     * @return the number of mismatches.
+     */
+    public long getMismatchCount() {
+        return mismatches.sum();
+    }
+
+    /**
+     * Returns the number of samples dropped because the executor rejected them or the employee
+     * could not be copied.
+     *
+     * @return the number of skipped samples.
+     */
+    public long getSkippedSampleCount() {
+        return skippedSamples.sum();
+    }
+
+    /**
+     * Returns the average duration of the reference path.
+     *
+     * @return the average duration in nanoseconds, or 0 if nothing was computed.
+     */
+    public double getAverageReferenceNanos() {
+        var count = calls.sum();
+        return count == 0 ? 0.0 : (double) referenceNanos.sum() / count;
+    }
+
+    /**
+     * Returns the average duration of the alternate engine.
+     *
+     * @return the average duration in nanoseconds, or 0 if nothing was verified.
+     */
+    public double getAverageCandidateNanos() {
+        var count = samples.sum();
+        return count == 0 ? 0.0 : (double) candidateNanos.sum() / count;
+    }
+
+    /**
+     * Compares the reference salary of a snapshot with the alternate engine, inline or on the
+     * executor.
+     */
+    private void verify(Employee snapshot, Month[] months, BigDecimal reference) {
+        if (executor == null) {
+            compare(snapshot, months, reference);
+            return;
+        }
+        try {
+            executor.execute(() -> compare(snapshot, months, reference));
+        } catch (RejectedExecutionException e) {
+            skippedSamples.increment();
+        }
+    }
+
+    /**
+     * Copies the attributes the salary depends on, so that the reference computation and the
+     * comparison use the same input.
+     *
+     * @throws IllegalArgumentException if the attributes of the employee are not valid for its
+     *                                  constructor.
+     */
+    private static Employee copyOf(Employee employee) {
+        var type = employee.getClass();
+        if (type == Employee.class)
+            return new Employee(
+                    employee.getName(),
+                    employee.getAge(),
+                    employee.getGender(),
+                    employee.getWage());
+        if (type != Manager.class && type != Director.class) return employee;
+
+        var manager = (Manager) employee;
+        if (type == Manager.class)
+            return new Manager(
+                    manager.getName(),
+                    manager.getAge(),
+                    manager.getGender(),
+                    manager.getWage(),
+                    manager.getSubordinateNumber(),
+                    manager.getSalarySupplementPercent());
+        return new Director(
+                manager.getName(),
+                manager.getAge(),
+                manager.getGender(),
+                manager.getWage(),
+                manager.getSubordinateNumber(),
+                manager.getSalarySupplementPercent());
+    }
+
+    private void compare(Employee employee, Month[] months, BigDecimal reference) {
+        BigDecimal result = null;
+        RuntimeException error = null;
+
+        var start = System.nanoTime();
+        try {
+            result = candidate.getSalary(employee, months);
+        } catch (RuntimeException e) {
+            error = e;
+        }
+        candidateNanos.add(System.nanoTime() - start);
+        samples.increment();
+
+        if (error == null && result != null && result.compareTo(reference) == 0) return;
+        mismatches.increment();
+        mismatchHandler.accept(new ShadowMismatch(employee, months, reference, result, error));
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.stream;
+
+import org.example.Employee;
+
+import java.math.BigDecimal;
+
+/**
+ * Represents the salary computed for a single employee over a range of months.
+ * Instances are emitted by {@link PayrollPublisher} and carry the position of the employee in
+ * the source collection, so that unordered consumers can restore the original order if needed.
+ */
+public class EmployeeSalary {
+    private final int position;
+    private final Employee employee;
+    private final BigDecimal salary;
+
+    /**
+     * Constructs a new {@code EmployeeSalary} result.
+     *
+     * @param position the index of the employee in the source collection.
+     * @param employee the employee the salary was computed for.
+     * @param salary   the computed salary.
+     */
+    public EmployeeSalary(int position, Employee employee, BigDecimal salary) {
+        this.position = position;
+        this.employee = employee;
+        this.salary = salary;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public BigDecimal getSalary() {
+        return salary;
+    }
+}
@@ -0,0 +1,230 @@
+package org.example.stream;
+
+import org.example.Employee;
+import org.example.Month;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.helpers.ValueChecker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Flow.Publisher} that emits the salaries of a collection of employees computed over
+ * a range of months.
+ *
+ * <p>Results are emitted in batches: every {@code onNext} signal carries a list of up to
+ * {@code batchSize} {@link EmployeeSalary} objects, and the demand requested by the subscriber is
+ * counted in batches. A batch is only computed when the subscriber has requested it, and at most
+ * {@code parallelism} batches are computed or waiting for delivery at any time, so a slow
+ * subscriber never forces the whole workforce to be buffered in memory.</p>
+ *
+ * <p>By default the batches are computed on the calling thread one at a time. When an executor
+ * is set, up to {@code parallelism} batches are computed concurrently and are delivered either in
+ * the order of the source collection or in the order they complete.</p>
+ *
+ * @see EmployeeSalary
+ */
+public class PayrollPublisher implements Flow.Publisher<List<EmployeeSalary>> {
+    private final Employee[] employees;
+    private final Month[] months;
+    private int batchSize = 1;
+    private Executor executor = Runnable::run;
+    private int parallelism = 1;
+    private boolean ordered = true;
+
+    /**
+     * Constructs a new {@code PayrollPublisher} for the given employees and months.
+     *
+     * @param employees the employees whose salaries are emitted; must not be null or empty.
+     * @param months    the months the salaries are computed for; must not be null or empty.
+     * @throws IllegalArgumentException if either of the collections is null or empty.
+     */
+    public PayrollPublisher(Employee[] employees, Month[] months) {
+        ValueChecker.checkEmployeeCollection(employees);
+        ValueChecker.checkMonthCollection(months);
+        this.employees = employees.clone();
+        this.months = months.clone();
+    }
+
+    /**
+     * Sets the maximum number of results emitted in a single {@code onNext} signal.
+     *
+     * @param value the batch size; must be greater than 0.
+     * @return the current {@code PayrollPublisher} instance for method chaining.
+     * @throws IllegalArgumentException if the batch size is less than 1.
+     */
+    public PayrollPublisher setBatchSize(int value) {
+        ValueChecker.checkPositive(value, ErrorMessagesEnum.INVALID_BATCH_SIZE);
+        this.batchSize = value;
+        return this;
+    }
+
+    /**
+     * Sets the executor used to compute the batches and the number of batches that may be
+     * computed or held for delivery at the same time.
+     *
+     * @param value            the executor the batches are computed on; must not be null.
+     * @param parallelismLevel the maximum number of outstanding batches; must be greater than 0.
+     * @return the current {@code PayrollPublisher} instance for method chaining.
+     * @throws IllegalArgumentException if the executor is null or the parallelism level is less
+     *                                  than 1.
+     */
+    public PayrollPublisher setExecutor(Executor value, int parallelismLevel) {
+        if (value == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.EXECUTOR_NULL.getString());
+        ValueChecker.checkPositive(parallelismLevel, ErrorMessagesEnum.INVALID_PARALLELISM);
+        this.executor = value;
+        this.parallelism = parallelismLevel;
+        return this;
+    }
+
+    /**
+     * Sets whether the batches are delivered in the order of the source collection
+     * ({@code true}, the default) or in the order their computation completes ({@code false}).
+     *
+     * @param value the delivery order flag.
+     * @return the current {@code PayrollPublisher} instance for method chaining.
+     */
+    public PayrollPublisher setOrdered(boolean value) {
+        this.ordered = value;
+        return this;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<EmployeeSalary>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        var subscription = new PayrollSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * The subscription of a single subscriber. All the signals to the subscriber are issued from
+     * the {@link #drain()} loop, which is entered by one thread at a time.
+     */
+    private class PayrollSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super List<EmployeeSalary>> subscriber;
+        private final int totalBatches;
+        private final int batchSize = PayrollPublisher.this.batchSize;
+        private final Executor executor = PayrollPublisher.this.executor;
+        private final int parallelism = PayrollPublisher.this.parallelism;
+        private final boolean ordered = PayrollPublisher.this.ordered;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final Map<Integer, List<EmployeeSalary>> readyByIndex = new ConcurrentHashMap<>();
+        private final Queue<List<EmployeeSalary>> readyQueue = new ConcurrentLinkedQueue<>();
+        private volatile boolean cancelled;
+
+        // Accessed only inside the drain loop.
+        private long emitted;
+        private int dispatched;
+        private boolean terminated;
+
+        PayrollSubscription(Flow.Subscriber<? super List<EmployeeSalary>> subscriber) {
+            this.subscriber = subscriber;
+            this.totalBatches = (employees.length + batchSize - 1) / batchSize;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error.compareAndSet(null, new IllegalArgumentException(
+                        ErrorMessagesEnum.INVALID_DEMAND.getString()));
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void compute(int batchIndex) {
+            try {
+                var from = batchIndex * batchSize;
+                var to = Math.min(from + batchSize, employees.length);
+                List<EmployeeSalary> batch = new ArrayList<>(to - from);
+                for (int i = from; i < to && !cancelled; i++)
+                    batch.add(new EmployeeSalary(i, employees[i], employees[i].getSalary(months)));
+
+                if (ordered) readyByIndex.put(batchIndex, batch);
+                else readyQueue.offer(batch);
+            } catch (RuntimeException e) {
+                error.compareAndSet(null, e);
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) return;
+
+            var missed = 1;
+            do {
+                if (!terminated) {
+                    if (cancelled) {
+                        terminate();
+                    } else if (error.get() != null) {
+                        terminate();
+                        subscriber.onError(error.get());
+                    } else {
+                        emit();
+                        dispatch();
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (emitted < requested.get() && !cancelled) {
+                var batch = ordered ? readyByIndex.remove((int) emitted) : readyQueue.poll();
+                if (batch == null) break;
+                emitted++;
+                subscriber.onNext(batch);
+            }
+            if (emitted == totalBatches && !cancelled) {
+                terminate();
+                subscriber.onComplete();
+            }
+        }
+
+        private void dispatch() {
+            while (!terminated
+                    && !cancelled
+                    && dispatched < totalBatches
+                    && dispatched - emitted < parallelism
+                    && dispatched - emitted < requested.get() - emitted) {
+                var batchIndex = dispatched++;
+                try {
+                    executor.execute(() -> compute(batchIndex));
+                } catch (RejectedExecutionException e) {
+                    error.compareAndSet(null, e);
+                    wip.incrementAndGet();
+                    return;
+                }
+            }
+        }
+
+        private void terminate() {
+            terminated = true;
+            cancelled = true;
+            readyByIndex.clear();
+            readyQueue.clear();
+        }
+    }
+}
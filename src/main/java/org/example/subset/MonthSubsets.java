@@ -0,0 +1,95 @@
+package org.example.subset;
+
+import org.example.Month;
+import org.example.MonthUtils;
+import org.example.enums.ErrorMessagesEnum;
+
+/**
+ * The total number of working days of every subset of the twelve months of a calendar.
+ *
+ * <p>A subset is a 12-bit mask where bit {@code i} stands for the month {@code i} of
+ * {@link MonthUtils#getMonths()}. The 4096 totals are built with a subset-sum dynamic program:
+ * the total of a mask is the total of the mask without its lowest bit plus the working days of
+ * that month, so every entry costs one addition.</p>
+ *
+ * <p>Instances are immutable and can be shared between threads.</p>
+ */
+public class MonthSubsets {
+    /**
+     * The number of subsets of the twelve months.
+     */
+    public static final int SUBSET_COUNT = 1 << 12;
+
+    private final Month[] months;
+    private final int[] workDays = new int[SUBSET_COUNT];
+    private final int maxWorkDays;
+
+    /**
+     * Constructs a new {@code MonthSubsets} from the months of the given calendar.
+     *
+     * @param calendar the calendar; must not be null.
+     * @throws IllegalArgumentException if the calendar is null.
+     */
+    public MonthSubsets(MonthUtils calendar) {
+        if (calendar == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.MONTHUTILS_NULL.getString());
+        months = calendar.getMonths();
+
+        for (int mask = 1; mask < SUBSET_COUNT; mask++) {
+            var month = Integer.numberOfTrailingZeros(mask);
+            workDays[mask] = workDays[mask & (mask - 1)] + months[month].getWorkDays();
+        }
+        maxWorkDays = workDays[SUBSET_COUNT - 1];
+    }
+
+    /**
+     * Returns the mask of a selection of months. A month matches a month of the calendar when
+     * it has the same name and the same number of working days.
+     *
+     * @param selection the selected months; must not be null.
+     * @return the mask of the selection, or {@code -1} if a month does not match the calendar or
+     * is selected more than once, in which case the selection cannot be answered from the
+     * subset tables.
+     * @throws IllegalArgumentException if the selection is null.
+     */
+    public int getMask(Month[] selection) {
+        if (selection == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.MONTH_NULL.getString());
+
+        var result = 0;
+        for (var month : selection) {
+            var bit = month == null ? -1 : getBit(month);
+            if (bit < 0 || (result & (1 << bit)) != 0) return -1;
+            result |= 1 << bit;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the total number of working days of a subset.
+     *
+     * @param mask the mask of the subset, from 0 to {@code SUBSET_COUNT - 1}.
+     * @return the number of working days.
+     */
+    public int getWorkDays(int mask) {
+        return workDays[mask];
+    }
+
+    /**
+     * Returns the number of working days of the whole year, the largest total of any subset.
+     *
+     * @return the number of working days of the twelve months.
+     */
+    public int getMaxWorkDays() {
+        return maxWorkDays;
+    }
+
+    private int getBit(Month month) {
+        for (int i = 0; i < months.length; i++) {
+            if (months[i] == month) return i;
+            if (months[i].getName().equals(month.getName()))
+                return months[i].getWorkDays().equals(month.getWorkDays()) ? i : -1;
+        }
+        return -1;
+    }
+}
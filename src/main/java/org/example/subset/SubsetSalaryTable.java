@@ -0,0 +1,162 @@
+package org.example.subset;
+
+import org.example.Employee;
+import org.example.EmployeeChangeListener;
+import org.example.Manager;
+import org.example.Month;
+import org.example.SalaryUtils;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.helpers.ValueChecker;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A precomputed table of the total salary of a team for every subset of the twelve months, so
+ * that any selection of months is answered with a single table lookup. A table over a single
+ * employee gives the salary of that employee.
+ *
+ * <p>The salary of an employee only depends on the number of working days of the selected
+ * months, which takes far fewer distinct values than there are subsets. The table is therefore
+ * built by computing the team total once per distinct number of working days, with the
+ * semantics of {@link SalaryUtils#getTotalSalary(Employee[], Month[])}, and sharing the results
+ * between the subsets with the same number of working days.</p>
+ *
+ * <p>The table registers itself as a change listener of every member and is invalidated when
+ * any of them changes; it is rebuilt on the next lookup. Selections that cannot be expressed as
+ * a subset (see {@link MonthSubsets#getMask(Month[])}) are computed directly. The table is
+ * thread-safe; {@link #close()} unregisters it from the members.</p>
+ */
+public class SubsetSalaryTable implements EmployeeChangeListener, AutoCloseable {
+    private final MonthSubsets subsets;
+    private final Employee[] team;
+    private final AtomicLong version = new AtomicLong();
+    private volatile BigDecimal[] totals;
+
+    /**
+     * Constructs a new {@code SubsetSalaryTable}. The table is built on the first lookup.
+     *
+     * @param subsets the working days of the month subsets; must not be null.
+     * @param team    the members of the team; must not be null or empty.
+     * @throws IllegalArgumentException if the subsets are null or the team is null, empty or
+     *                                  holds null values.
+     */
+    public SubsetSalaryTable(MonthSubsets subsets, Employee[] team) {
+        if (subsets == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.MONTH_SUBSETS_NULL.getString());
+        ValueChecker.checkEmployeeCollection(team);
+        for (var employee : team)
+            ValueChecker.checkEmployee(employee);
+
+        this.subsets = subsets;
+        this.team = team.clone();
+        for (var employee : this.team)
+            employee.addChangeListener(this);
+    }
+
+    /**
+     * Returns the total salary of the team for the specified months.
+     *
+     * @param months the months to calculate the salary for; must not be null or empty.
+     * @return the total salary rounded to two decimal places using rounding mode
+     * {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException if the month array is null or empty.
+     */
+    public BigDecimal getTotalSalary(Month[] months) {
+        ValueChecker.checkMonthCollection(months);
+        var mask = subsets.getMask(months);
+        if (mask < 0) return SalaryUtils.getTotalSalary(team, months);
+        return getTotalSalary(mask);
+    }
+
+    /**
+     * Returns the total salary of the team for a subset of the months.
+     *
+     * @param mask the mask of the subset, see {@link MonthSubsets}.
+     * @return the total salary rounded to two decimal places using rounding mode
+     * {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException if the mask is not within {@code [0, 4095]}.
+     */
+    public BigDecimal getTotalSalary(int mask) {
+        if (mask < 0 || mask >= MonthSubsets.SUBSET_COUNT)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_MONTH_MASK.getString());
+        var table = totals;
+        if (table == null) table = build();
+        return table[mask];
+    }
+
+    /**
+     * Returns whether the table is currently built.
+     *
+     * @return {@code false} if the table has not been built yet or has been invalidated.
+     */
+    public boolean isBuilt() {
+        return totals != null;
+    }
+
+    /**
+     * Invalidates the table. The invalidation holds the lock {@link #build()} publishes a table
+     * under, so a table built before the change cannot be published after it.
+     */
+    @Override
+    public synchronized void onEmployeeChanged(Employee employee) {
+        version.incrementAndGet();
+        totals = null;
+    }
+
+    /**
+     * Unregisters the table from the members and drops the built table. The table stays usable,
+     * but it is no longer invalidated when a member changes.
+     */
+    @Override
+    public void close() {
+        for (var employee : team)
+            employee.removeChangeListener(this);
+        onEmployeeChanged(null);
+    }
+
+    /**
+     * Builds the table. A table built while a member changed is returned to the caller but not
+     * kept, as it may hold the values before the change.
+     */
+    private BigDecimal[] build() {
+        var builtVersion = version.get();
+
+        var byWorkDays = new BigDecimal[subsets.getMaxWorkDays() + 1];
+        var result = new BigDecimal[MonthSubsets.SUBSET_COUNT];
+        for (int mask = 0; mask < MonthSubsets.SUBSET_COUNT; mask++) {
+            var workDays = subsets.getWorkDays(mask);
+            if (byWorkDays[workDays] == null) byWorkDays[workDays] = computeTotal(workDays);
+            result[mask] = byWorkDays[workDays];
+        }
+
+        synchronized (this) {
+            if (version.get() == builtVersion) totals = result;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the team total for a number of working days. The wages of the employees who are
+     * not managers are summed first, as their salaries are not rounded individually; the salary of
+     * every manager is computed by {@link Manager#calculateSalary(BigDecimal, int, int)}.
+     */
+    private BigDecimal computeTotal(int workDays) {
+        var days = BigDecimal.valueOf(workDays);
+        var wages = BigDecimal.ZERO;
+        var result = BigDecimal.ZERO;
+        for (var employee : team) {
+            if (!(employee instanceof Manager)) {
+                wages = wages.add(employee.getWage());
+                continue;
+            }
+            var manager = (Manager) employee;
+            result = result.add(Manager.calculateSalary(
+                    manager.getWage().multiply(days),
+                    manager.getSubordinateNumber(),
+                    manager.getSalarySupplementPercent()));
+        }
+        return result.add(wages.multiply(days)).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.workforce;
+
+import org.example.enums.ErrorMessagesEnum;
+import org.example.enums.RoleEnum;
+
+/**
+ * A cohort of employees moving to the same role, for instance the promotions of an annual
+ * review. For every employee the cohort holds the number of subordinates and the salary
+ * supplement percent of the new role; both are ignored when the target role is
+ * {@link RoleEnum#EMPLOYEE}.
+ *
+ * @see WorkforceStore#applyTransitions(RoleTransitionCohort, org.example.Month[])
+ */
+public class RoleTransitionCohort {
+    private final RoleEnum targetRole;
+    private final int[] employeeIds;
+    private final int[] subordinateNumbers;
+    private final int[] supplementPercents;
+
+    /**
+     * Constructs a new {@code RoleTransitionCohort}.
+     *
+     * @param targetRole         the role the employees move to; must not be null.
+     * @param employeeIds        the ids of the employees in the workforce store.
+     * @param subordinateNumbers the numbers of subordinates, in the order of the ids.
+     * @param supplementPercents the salary supplement percents, in the order of the ids.
+     * @throws IllegalArgumentException if the role is null or the arrays are null or have
+     *                                  different sizes.
+     */
+    public RoleTransitionCohort(
+            RoleEnum targetRole,
+            int[] employeeIds,
+            int[] subordinateNumbers,
+            int[] supplementPercents) {
+
+        if (targetRole == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.ROLE_NULL.getString());
+        if (employeeIds == null
+                || subordinateNumbers == null
+                || supplementPercents == null
+                || subordinateNumbers.length != employeeIds.length
+                || supplementPercents.length != employeeIds.length)
+            throw new IllegalArgumentException(
+                    ErrorMessagesEnum.COHORT_SIZE_MISMATCH.getString());
+
+        this.targetRole = targetRole;
+        this.employeeIds = employeeIds.clone();
+        this.subordinateNumbers = subordinateNumbers.clone();
+        this.supplementPercents = supplementPercents.clone();
+    }
+
+    public RoleEnum getTargetRole() {
+        return targetRole;
+    }
+
+    public int size() {
+        return employeeIds.length;
+    }
+
+    public int getEmployeeId(int index) {
+        return employeeIds[index];
+    }
+
+    public int getSubordinateNumber(int index) {
+        return subordinateNumbers[index];
+    }
+
+    public int getSupplementPercent(int index) {
+        return supplementPercents[index];
+    }
+}
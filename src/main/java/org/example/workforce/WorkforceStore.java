@@ -0,0 +1,269 @@
+package org.example.workforce;
+
+import org.example.Director;
+import org.example.Employee;
+import org.example.Manager;
+import org.example.Month;
+import org.example.enums.ErrorMessagesEnum;
+import org.example.enums.GenderEnum;
+import org.example.enums.RoleEnum;
+import org.example.helpers.ValueChecker;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.BitSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A columnar store of a workforce, where every attribute of the employees is kept in its own
+ * array indexed by the employee id.
+ *
+ * <p>The role of an employee is a column value rather than the class of an object, so role
+ * transitions only overwrite a few array cells: promoting thousands of employees does not
+ * allocate a {@link Manager} per employee, and no reference to a replaced object has to be
+ * updated. {@link Employee} objects can still be materialized on demand with
+ * {@link #toEmployee(int)}.</p>
+ *
+ * <p>Salaries are computed with the semantics of {@link Employee#getSalary(Month[])} and
+ * {@link Manager#getSalary(Month[])}. The store is thread-safe: transitions are applied under
+ * a write lock, so readers see either none or all of the transitions of a cohort.</p>
+ */
+public class WorkforceStore {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final String[] names;
+    private final int[] ages;
+    private final GenderEnum[] genders;
+    private final BigDecimal[] wages;
+    private final RoleEnum[] roles;
+    private final int[] subordinateNumbers;
+    private final int[] supplementPercents;
+
+    /**
+     * Constructs a {@code WorkforceStore} from the given employees. The id of every employee is
+     * its position in the array.
+     *
+     * @param employees the employees; must not be null or empty.
+     * @throws IllegalArgumentException if the collection is null or empty or holds null values.
+     */
+    public WorkforceStore(Employee[] employees) {
+        ValueChecker.checkEmployeeCollection(employees);
+
+        var size = employees.length;
+        names = new String[size];
+        ages = new int[size];
+        genders = new GenderEnum[size];
+        wages = new BigDecimal[size];
+        roles = new RoleEnum[size];
+        subordinateNumbers = new int[size];
+        supplementPercents = new int[size];
+
+        for (int id = 0; id < size; id++) {
+            var employee = employees[id];
+            ValueChecker.checkEmployee(employee);
+            names[id] = employee.getName();
+            ages[id] = employee.getAge();
+            genders[id] = employee.getGender();
+            wages[id] = employee.getWage();
+            roles[id] = employee.getRole();
+            if (employee instanceof Manager) {
+                var manager = (Manager) employee;
+                subordinateNumbers[id] = manager.getSubordinateNumber();
+                supplementPercents[id] = manager.getSalarySupplementPercent();
+            }
+        }
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public RoleEnum getRole(int id) {
+        checkId(id);
+        lock.readLock().lock();
+        try {
+            return roles[id];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Calculates the salary of an employee for the given months.
+     *
+     * @param id     the id of the employee.
+     * @param months the months to calculate the salary for; must not be null or empty.
+     * @return the salary, rounded to two decimal places for managers and directors.
+     * @throws IllegalArgumentException if the id is invalid or the month array is null or empty.
+     */
+    public BigDecimal getSalary(int id, Month[] months) {
+        checkId(id);
+        var workDays = getWorkDays(months);
+        lock.readLock().lock();
+        try {
+            return getSalary(
+                    id,
+                    roles[id],
+                    subordinateNumbers[id],
+                    supplementPercents[id],
+                    workDays);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the total of all employees' salaries for the specified months.
+     *
+     * @param months the months to calculate the salary for; must not be null or empty.
+     * @return the total salary rounded to two decimal places using rounding mode
+     * {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException if the month array is null or empty.
+     */
+    public BigDecimal getTotalSalary(Month[] months) {
+        var workDays = getWorkDays(months);
+        var result = BigDecimal.ZERO;
+        lock.readLock().lock();
+        try {
+            for (int id = 0; id < names.length; id++)
+                result = result.add(getSalary(
+                        id,
+                        roles[id],
+                        subordinateNumbers[id],
+                        supplementPercents[id],
+                        workDays));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Validates a cohort in a single pass and, if every entry is valid, applies all its role
+     * transitions at once. If any entry is invalid, nothing is applied.
+     *
+     * @param cohort the cohort; must not be null.
+     * @param months the months the payroll deltas are computed for; must not be null or empty.
+     * @return the change of the salary of every employee of the cohort over the given months,
+     * in the order of the cohort.
+     * @throws IllegalArgumentException if the cohort is null, holds an invalid or duplicated id or
+     *                                  a negative subordinate number or supplement percent, or
+     *                                  the month array is null or empty.
+     */
+    public BigDecimal[] applyTransitions(RoleTransitionCohort cohort, Month[] months) {
+        if (cohort == null)
+            throw new IllegalArgumentException(ErrorMessagesEnum.COHORT_NULL.getString());
+        var workDays = getWorkDays(months);
+
+        var seen = new BitSet(names.length);
+        for (int i = 0; i < cohort.size(); i++) {
+            var id = cohort.getEmployeeId(i);
+            checkId(id);
+            if (seen.get(id))
+                throw new IllegalArgumentException(
+                        ErrorMessagesEnum.DUPLICATE_EMPLOYEE_ID.getString());
+            seen.set(id);
+            ValueChecker.checkManagerData(
+                    cohort.getSubordinateNumber(i),
+                    cohort.getSupplementPercent(i));
+        }
+
+        var targetRole = cohort.getTargetRole();
+        var deltas = new BigDecimal[cohort.size()];
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < cohort.size(); i++) {
+                var id = cohort.getEmployeeId(i);
+                var before = getSalary(
+                        id,
+                        roles[id],
+                        subordinateNumbers[id],
+                        supplementPercents[id],
+                        workDays);
+
+                var isEmployee = targetRole == RoleEnum.EMPLOYEE;
+                roles[id] = targetRole;
+                subordinateNumbers[id] = isEmployee ? 0 : cohort.getSubordinateNumber(i);
+                supplementPercents[id] = isEmployee ? 0 : cohort.getSupplementPercent(i);
+
+                var after = getSalary(
+                        id,
+                        roles[id],
+                        subordinateNumbers[id],
+                        supplementPercents[id],
+                        workDays);
+                deltas[i] = after.subtract(before);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return deltas;
+    }
+
+    /**
+     * Materializes the employee with the given id as an {@link Employee}, {@link Manager} or
+     * {@link Director} object, depending on its role. The object is a snapshot: changes made to
+     * it are not reflected in the store.
+     *
+     * @param id the id of the employee.
+     * @return a new object holding the attributes of the employee.
+     * @throws IllegalArgumentException if the id is invalid.
+     */
+    public Employee toEmployee(int id) {
+        checkId(id);
+        lock.readLock().lock();
+        try {
+            switch (roles[id]) {
+                case MANAGER:
+                    return new Manager(
+                            names[id],
+                            ages[id],
+                            genders[id],
+                            wages[id],
+                            subordinateNumbers[id],
+                            supplementPercents[id]);
+                case DIRECTOR:
+                    return new Director(
+                            names[id],
+                            ages[id],
+                            genders[id],
+                            wages[id],
+                            subordinateNumbers[id],
+                            supplementPercents[id]);
+                default:
+                    return new Employee(names[id], ages[id], genders[id], wages[id]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Calculates a salary from the total number of working days of the months, applying
+     * {@link Manager#calculateSalary(BigDecimal, int, int)} to managers and directors.
+     */
+    private BigDecimal getSalary(
+            int id,
+            RoleEnum role,
+            int subordinateNumber,
+            int supplementPercent,
+            BigDecimal workDays) {
+
+        var normalSalary = wages[id].multiply(workDays);
+        if (role == RoleEnum.EMPLOYEE) return normalSalary;
+        return Manager.calculateSalary(normalSalary, subordinateNumber, supplementPercent);
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= names.length)
+            throw new IllegalArgumentException(ErrorMessagesEnum.INVALID_EMPLOYEE_ID.getString());
+    }
+
+    private static BigDecimal getWorkDays(Month[] months) {
+        ValueChecker.checkMonthCollection(months);
+        long result = 0;
+        for (var month : months)
+            result += month.getWorkDays();
+        return BigDecimal.valueOf(result);
+    }
+}